@@ -0,0 +1,121 @@
+// Renders a read-only leaderboard entirely in the browser. The server sends the whole leaderboard once ("reset") and
+// then only the games added to or removed from it, so it keeps no per-display component state.
+class LeaderboardDisplay extends HTMLElement {
+  constructor() {
+    super();
+    this.rows = [];
+    this.attachShadow({ mode: 'open' }).innerHTML = `
+      <style>
+        :host { display: flex; flex-direction: column; height: 100vh; box-sizing: border-box; padding: var(--lumo-space-l); font-size: 2rem; }
+        h1 { margin: 0 0 var(--lumo-space-m); }
+        #scroller { flex: 1; overflow: hidden; }
+        table { width: 100%; border-collapse: collapse; }
+        td { padding: var(--lumo-space-s) var(--lumo-space-m); }
+        tr:nth-child(even) { background: var(--lumo-contrast-5pct); }
+        tr.new { animation: highlight 3s; }
+        td.rank, td.time { white-space: nowrap; }
+        td.rank { width: 3em; text-align: right; font-weight: bold; }
+        td.time { text-align: right; }
+        #empty { color: var(--lumo-secondary-text-color); }
+        @keyframes highlight { from { background: var(--lumo-success-color-50pct); } }
+      </style>
+      <h1 id="title"></h1>
+      <div id="scroller"><table><tbody></tbody></table><div id="empty" hidden>No games played yet</div></div>
+    `;
+    this.body = this.shadowRoot.querySelector('tbody');
+    this.scroller = this.shadowRoot.querySelector('#scroller');
+  }
+
+  set heading(heading) {
+    this.shadowRoot.querySelector('#title').textContent = heading;
+  }
+
+  // Only show the fastest `top` games, or all of them when 0
+  set top(top) {
+    this._top = top;
+    this.render();
+  }
+
+  // Keep scrolling through the whole leaderboard, starting over at the top
+  set scroll(scroll) {
+    clearInterval(this.scrollTimer);
+
+    if (scroll) {
+      this.scrollTimer = setInterval(() => this.scrollStep(), 50);
+    }
+  }
+
+  // Properties the server set before this element was defined would hide the setters
+  connectedCallback() {
+    ['heading', 'top', 'scroll'].forEach(property => {
+      if (Object.prototype.hasOwnProperty.call(this, property)) {
+        const value = this[property];
+        delete this[property];
+        this[property] = value;
+      }
+    });
+  }
+
+  disconnectedCallback() {
+    clearInterval(this.scrollTimer);
+  }
+
+  apply(json) {
+    const message = JSON.parse(json);
+
+    switch (message.type) {
+      case 'reset':
+        this.rows = message.rows;
+        this.newId = undefined;
+        break;
+      case 'added':
+        this.rows.splice(message.index, 0, message.row);
+        this.newId = message.row.id;
+        break;
+      case 'removed':
+        this.rows = this.rows.filter(row => row.id !== message.gameId);
+        break;
+    }
+
+    this.render();
+  }
+
+  render() {
+    const rows = this._top ? this.rows.slice(0, this._top) : this.rows;
+    this.body.replaceChildren(...rows.map((row, index) => this.createRow(row, index + 1)));
+    this.shadowRoot.querySelector('#empty').hidden = rows.length > 0;
+  }
+
+  createRow(row, rank) {
+    const tr = document.createElement('tr');
+    tr.classList.toggle('new', row.id === this.newId);
+
+    [[rank, 'rank'], [row.player, 'player'], [row.time, 'time']].forEach(([text, className]) => {
+      const td = document.createElement('td');
+      td.className = className;
+      td.textContent = text;
+      tr.appendChild(td);
+    });
+
+    return tr;
+  }
+
+  scrollStep() {
+    const atBottom = this.scroller.scrollTop + this.scroller.clientHeight >= this.scroller.scrollHeight - 1;
+
+    if (atBottom) {
+      // Linger on the bottom of the leaderboard before starting over
+      this.pauseTicks = (this.pauseTicks || 0) + 1;
+
+      if (this.pauseTicks > 60) {
+        this.pauseTicks = 0;
+        this.scroller.scrollTop = 0;
+      }
+    }
+    else {
+      this.scroller.scrollTop += 1;
+    }
+  }
+}
+
+customElements.define('leaderboard-display', LeaderboardDisplay);
@@ -0,0 +1,21 @@
+package io.quarkus.gamemanager.archive.config;
+
+import java.nio.file.Path;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "game-manager.archive")
+public interface ArchiveConfig {
+  /**
+   * Where the archive files of archived events are kept
+   */
+  @WithDefault("${user.home}/.games/archive")
+  Path dir();
+
+  /**
+   * How many archives are kept open (their compressed file memory mapped, their decoded columns on the heap) at a time
+   */
+  @WithDefault("8")
+  int openArchives();
+}
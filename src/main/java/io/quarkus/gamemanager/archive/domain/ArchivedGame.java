@@ -0,0 +1,9 @@
+package io.quarkus.gamemanager.archive.domain;
+
+import io.quarkus.gamemanager.game.domain.GameDto;
+
+/**
+ * A game read from an archive, along with the name of its event
+ */
+public record ArchivedGame(GameDto game, String eventName) {
+}
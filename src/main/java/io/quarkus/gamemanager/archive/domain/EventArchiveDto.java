@@ -0,0 +1,19 @@
+package io.quarkus.gamemanager.archive.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Summary of an archived event's games
+ */
+public record EventArchiveDto(
+    Long eventId,
+    String eventName,
+    long games,
+    Duration bestTime,
+    Instant firstGameDate,
+    Instant lastGameDate,
+    Instant archivedAt,
+    long fileSize
+) {
+}
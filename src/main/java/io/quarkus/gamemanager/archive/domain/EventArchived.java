@@ -0,0 +1,10 @@
+package io.quarkus.gamemanager.archive.domain;
+
+import java.nio.file.Path;
+
+/**
+ * Fired when an event's games are moved to an archive file. The file is written before the transaction commits, so it
+ * is removed again if the transaction fails.
+ */
+public record EventArchived(EventArchiveDto archive, Path file) {
+}
@@ -0,0 +1,154 @@
+package io.quarkus.gamemanager.archive.domain.jpa;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import io.quarkus.gamemanager.game.domain.jpa.DurationToMillisConverter;
+
+/**
+ * What is left of an archived event's games in the database. The games themselves are in the archive file.
+ */
+@Entity
+@Table(name = "event_archives")
+public class EventArchive {
+  @Id
+  private Long eventId;
+
+  @Column(nullable = false)
+  private String eventName;
+
+  @Column(nullable = false)
+  private long games;
+
+  @Column(name = "best_time_ms")
+  @Convert(converter = DurationToMillisConverter.class)
+  private Duration bestTime;
+
+  private Instant firstGameDate;
+
+  private Instant lastGameDate;
+
+  @Column(nullable = false)
+  private Instant archivedAt;
+
+  @Column(nullable = false)
+  private String fileName;
+
+  @Column(nullable = false)
+  private long fileSize;
+
+  public Long getEventId() {
+    return eventId;
+  }
+
+  public EventArchive withEventId(Long eventId) {
+    this.eventId = eventId;
+    return this;
+  }
+
+  public String getEventName() {
+    return eventName;
+  }
+
+  public EventArchive withEventName(String eventName) {
+    this.eventName = eventName;
+    return this;
+  }
+
+  public long getGames() {
+    return games;
+  }
+
+  public EventArchive withGames(long games) {
+    this.games = games;
+    return this;
+  }
+
+  public Duration getBestTime() {
+    return bestTime;
+  }
+
+  public EventArchive withBestTime(Duration bestTime) {
+    this.bestTime = bestTime;
+    return this;
+  }
+
+  public Instant getFirstGameDate() {
+    return firstGameDate;
+  }
+
+  public EventArchive withFirstGameDate(Instant firstGameDate) {
+    this.firstGameDate = firstGameDate;
+    return this;
+  }
+
+  public Instant getLastGameDate() {
+    return lastGameDate;
+  }
+
+  public EventArchive withLastGameDate(Instant lastGameDate) {
+    this.lastGameDate = lastGameDate;
+    return this;
+  }
+
+  public Instant getArchivedAt() {
+    return archivedAt;
+  }
+
+  public EventArchive withArchivedAt(Instant archivedAt) {
+    this.archivedAt = archivedAt;
+    return this;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public EventArchive withFileName(String fileName) {
+    this.fileName = fileName;
+    return this;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public EventArchive withFileSize(long fileSize) {
+    this.fileSize = fileSize;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "EventArchive{" +
+        "eventId=" + getEventId() +
+        ", eventName='" + getEventName() + '\'' +
+        ", games=" + getGames() +
+        ", bestTime=" + getBestTime() +
+        ", archivedAt=" + getArchivedAt() +
+        ", fileName='" + getFileName() + '\'' +
+        ", fileSize=" + getFileSize() +
+        '}';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof EventArchive eventArchive)) {
+      return false;
+    }
+
+    return Objects.equals(eventId, eventArchive.eventId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(eventId);
+  }
+}
@@ -0,0 +1,12 @@
+package io.quarkus.gamemanager.archive.mapping;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants.ComponentModel;
+
+import io.quarkus.gamemanager.archive.domain.EventArchiveDto;
+import io.quarkus.gamemanager.archive.domain.jpa.EventArchive;
+
+@Mapper(componentModel = ComponentModel.JAKARTA_CDI)
+public interface EventArchiveMapper {
+  EventArchiveDto toDto(EventArchive eventArchive);
+}
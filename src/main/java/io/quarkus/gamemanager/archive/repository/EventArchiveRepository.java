@@ -0,0 +1,10 @@
+package io.quarkus.gamemanager.archive.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.archive.domain.jpa.EventArchive;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+@ApplicationScoped
+public class EventArchiveRepository implements PanacheRepositoryBase<EventArchive, Long> {
+}
@@ -0,0 +1,40 @@
+package io.quarkus.gamemanager.archive.rest;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestPath;
+
+import io.quarkus.gamemanager.archive.domain.EventArchiveDto;
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+
+@Path("/events/{eventId}/archive")
+@Produces(MediaType.APPLICATION_JSON)
+public class EventArchiveResource {
+  private final GameArchiveService gameArchiveService;
+
+  public EventArchiveResource(GameArchiveService gameArchiveService) {
+    this.gameArchiveService = gameArchiveService;
+  }
+
+  /**
+   * Moves the event's games into its archive file. Its leaderboard keeps being served, read only, from the archive.
+   */
+  @POST
+  public EventArchiveDto archiveEvent(@RestPath long eventId) {
+    return this.gameArchiveService.archiveEvent(eventId);
+  }
+
+  /**
+   * The summary of the event's archived games
+   */
+  @GET
+  public EventArchiveDto getArchive(@RestPath long eventId) {
+    return this.gameArchiveService.findArchive(eventId)
+        .orElseThrow(() -> new NotFoundException("Event %d is not archived".formatted(eventId)));
+  }
+}
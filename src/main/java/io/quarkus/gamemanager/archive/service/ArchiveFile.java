@@ -0,0 +1,266 @@
+package io.quarkus.gamemanager.archive.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+
+/**
+ * The on-disk format of an archive: one deflate compressed block per column, behind a small header.
+ * <pre>
+ *   int magic, int version, int rows
+ *   per column: long offset, int compressed length, int raw length
+ *   column blocks
+ * </pre>
+ * Numeric columns are stored as zig-zag varint deltas from the previous row (rows are in leaderboard order, so the
+ * times only ever grow), strings as a varint length (0 for null, otherwise length + 1) followed by their UTF-8 bytes.
+ * <p>
+ *   Archives are read through a read-only memory mapping, so the file is paged in by the OS rather than read onto
+ *   the heap, and columns are only inflated once they are needed.
+ * </p>
+ */
+final class ArchiveFile {
+  static final int ID = 0;
+  static final int FIRST_NAME = 1;
+  static final int LAST_NAME = 2;
+  static final int EMAIL = 3;
+  static final int GAME_DATE = 4;
+  static final int GAME_DAY = 5;
+  static final int TIME_MS = 6;
+  static final int COLUMNS = 7;
+
+  private static final int MAGIC = 0x474d4152;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = (3 * Integer.BYTES) + (COLUMNS * (Long.BYTES + (2 * Integer.BYTES)));
+
+  private final ByteBuffer mapped;
+  private final int rows;
+  private final long[] offsets = new long[COLUMNS];
+  private final int[] compressedLengths = new int[COLUMNS];
+  private final int[] rawLengths = new int[COLUMNS];
+
+  private ArchiveFile(ByteBuffer mapped) {
+    this.mapped = mapped.order(ByteOrder.BIG_ENDIAN);
+
+    if ((this.mapped.getInt(0) != MAGIC) || (this.mapped.getInt(Integer.BYTES) != VERSION)) {
+      throw new IllegalStateException("Not a version %d game archive".formatted(VERSION));
+    }
+
+    this.rows = this.mapped.getInt(2 * Integer.BYTES);
+    var position = 3 * Integer.BYTES;
+
+    for (var column = 0; column < COLUMNS; column++) {
+      this.offsets[column] = this.mapped.getLong(position);
+      this.compressedLengths[column] = this.mapped.getInt(position + Long.BYTES);
+      this.rawLengths[column] = this.mapped.getInt(position + Long.BYTES + Integer.BYTES);
+      position += Long.BYTES + (2 * Integer.BYTES);
+    }
+  }
+
+  /**
+   * Writes the games, which have to be in leaderboard order, to {@code file}. The archive is written next to it first
+   * and moved in place once complete, so a half written archive is never seen.
+   */
+  static long write(Path file, List<Game> games) throws IOException {
+    var columns = List.of(
+        longs(games, Game::getId),
+        strings(games, game -> game.getPlayer().getFirstName()),
+        strings(games, game -> game.getPlayer().getLastName()),
+        strings(games, game -> game.getPlayer().getEmail()),
+        longs(games, game -> ChronoUnit.MICROS.between(Instant.EPOCH, game.getGameDate())),
+        longs(games, game -> game.getGameDay().toEpochDay()),
+        longs(games, game -> game.getTimeToComplete().toMillis())
+    );
+
+    var compressed = columns.stream()
+        .map(ArchiveFile::deflate)
+        .toList();
+
+    var header = ByteBuffer.allocate(HEADER_SIZE)
+        .putInt(MAGIC)
+        .putInt(VERSION)
+        .putInt(games.size());
+
+    long offset = HEADER_SIZE;
+    for (var column = 0; column < COLUMNS; column++) {
+      header.putLong(offset)
+          .putInt(compressed.get(column).length)
+          .putInt(columns.get(column).length);
+      offset += compressed.get(column).length;
+    }
+
+    Files.createDirectories(file.getParent());
+    var tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+    try (var channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      channel.write(header.flip());
+
+      for (var block : compressed) {
+        channel.write(ByteBuffer.wrap(block));
+      }
+
+      channel.force(true);
+    }
+    catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+
+    Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    return offset;
+  }
+
+  static ArchiveFile open(Path file) throws IOException {
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      return new ArchiveFile(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  int rows() {
+    return this.rows;
+  }
+
+  long[] readLongs(int column) {
+    var raw = inflate(column);
+    var values = new long[this.rows];
+    var previous = 0L;
+
+    for (var row = 0; row < this.rows; row++) {
+      var zigZag = readVarLong(raw);
+      previous += (zigZag >>> 1) ^ -(zigZag & 1);
+      values[row] = previous;
+    }
+
+    return values;
+  }
+
+  String[] readStrings(int column) {
+    var raw = inflate(column);
+    var values = new String[this.rows];
+
+    for (var row = 0; row < this.rows; row++) {
+      var length = (int) readVarLong(raw);
+
+      if (length > 0) {
+        values[row] = StandardCharsets.UTF_8.decode(raw.slice(raw.position(), length - 1)).toString();
+        raw.position(raw.position() + length - 1);
+      }
+    }
+
+    return values;
+  }
+
+  private ByteBuffer inflate(int column) {
+    var inflater = new Inflater();
+
+    try {
+      inflater.setInput(this.mapped.slice((int) this.offsets[column], this.compressedLengths[column]));
+      var raw = ByteBuffer.allocate(this.rawLengths[column]);
+
+      while (raw.hasRemaining() && !inflater.finished()) {
+        inflater.inflate(raw);
+      }
+
+      return raw.flip();
+    }
+    catch (DataFormatException e) {
+      throw new IllegalStateException("Corrupt game archive column %d".formatted(column), e);
+    }
+    finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] longs(List<Game> games, ToLongFunction<Game> value) {
+    var out = new ByteArrayOutputStream();
+    var previous = 0L;
+
+    for (var game : games) {
+      var current = value.applyAsLong(game);
+      var delta = current - previous;
+      writeVarLong(out, (delta << 1) ^ (delta >> 63));
+      previous = current;
+    }
+
+    return out.toByteArray();
+  }
+
+  private static byte[] strings(List<Game> games, Function<Game, String> value) {
+    var out = new ByteArrayOutputStream();
+
+    for (var game : games) {
+      var string = value.apply(game);
+
+      if (string == null) {
+        writeVarLong(out, 0);
+      }
+      else {
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.writeBytes(bytes);
+      }
+    }
+
+    return out.toByteArray();
+  }
+
+  private static byte[] deflate(byte[] raw) {
+    var out = new ByteArrayOutputStream();
+    var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+    try (var deflaterOut = new DeflaterOutputStream(out, deflater)) {
+      deflaterOut.write(raw);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    finally {
+      deflater.end();
+    }
+
+    return out.toByteArray();
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+
+    out.write((int) value);
+  }
+
+  private static long readVarLong(ByteBuffer in) {
+    var value = 0L;
+    var shift = 0;
+    byte b;
+
+    do {
+      b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+
+    return value;
+  }
+}
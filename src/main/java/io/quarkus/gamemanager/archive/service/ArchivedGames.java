@@ -0,0 +1,179 @@
+package io.quarkus.gamemanager.archive.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import io.quarkus.gamemanager.archive.domain.ArchivedGame;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.GamePage;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.Sort.Direction;
+
+/**
+ * The games of an archived event, read only, answering the same queries as the games table does for live events.
+ * Rows are in leaderboard order (fastest first). Only the compressed file is memory mapped: each column is inflated
+ * onto the heap, in full, the first time it is needed and kept for as long as the archive is open. Counting or listing
+ * the game days therefore never inflates the player names, but a listing holds every column of the event in memory.
+ */
+public final class ArchivedGames {
+  private final Long eventId;
+  private final String eventName;
+  private final ArchiveFile archiveFile;
+  private final Object[] columns = new Object[ArchiveFile.COLUMNS];
+
+  ArchivedGames(Long eventId, String eventName, ArchiveFile archiveFile) {
+    this.eventId = eventId;
+    this.eventName = eventName;
+    this.archiveFile = archiveFile;
+  }
+
+  public int size() {
+    return this.archiveFile.rows();
+  }
+
+  public long count(Optional<LocalDate> gameDay) {
+    return rows(gameDay).count();
+  }
+
+  public List<LocalDate> getGameDays() {
+    return Arrays.stream(longs(ArchiveFile.GAME_DAY))
+        .distinct()
+        .sorted()
+        .mapToObj(LocalDate::ofEpochDay)
+        .toList();
+  }
+
+  public List<GameDto> getGames(Sort sort, Optional<LocalDate> gameDay) {
+    return sorted(rows(gameDay), sort)
+        .mapToObj(this::toGameDto)
+        .toList();
+  }
+
+  public GamePage<GameDto> getPage(Sort sort, Optional<LocalDate> gameDay, int offset, int limit) {
+    var rows = sorted(rows(gameDay), sort).toArray();
+    var games = Arrays.stream(rows)
+        .skip(offset)
+        .limit(limit)
+        .mapToObj(this::toGameDto)
+        .toList();
+
+    return new GamePage<>(games, rows.length);
+  }
+
+  /**
+   * The {@code limit} fastest games played in {@code [from, until)}. Rows are already fastest first, so this stops as
+   * soon as it has found them.
+   */
+  public List<ArchivedGame> getFastestGames(Optional<Instant> from, Optional<Instant> until, int limit) {
+    var gameDates = longs(ArchiveFile.GAME_DATE);
+    var fromMicros = from.map(ArchivedGames::toMicros).orElse(Long.MIN_VALUE);
+    var untilMicros = until.map(ArchivedGames::toMicros).orElse(Long.MAX_VALUE);
+
+    return IntStream.range(0, size())
+        .filter(row -> (gameDates[row] >= fromMicros) && (gameDates[row] < untilMicros))
+        .limit(limit)
+        .mapToObj(row -> new ArchivedGame(toGameDto(row), this.eventName))
+        .toList();
+  }
+
+  public void forEachCompletionTime(BiConsumer<LocalDate, Duration> consumer) {
+    var gameDays = longs(ArchiveFile.GAME_DAY);
+    var times = longs(ArchiveFile.TIME_MS);
+
+    for (var row = 0; row < size(); row++) {
+      consumer.accept(LocalDate.ofEpochDay(gameDays[row]), Duration.ofMillis(times[row]));
+    }
+  }
+
+  private IntStream rows(Optional<LocalDate> gameDay) {
+    return gameDay.map(day -> {
+          var gameDays = longs(ArchiveFile.GAME_DAY);
+          var epochDay = day.toEpochDay();
+
+          return IntStream.range(0, size()).filter(row -> gameDays[row] == epochDay);
+        })
+        .orElseGet(() -> IntStream.range(0, size()));
+  }
+
+  private IntStream sorted(IntStream rows, Sort sort) {
+    if ((sort == null) || sort.getColumns().isEmpty()) {
+      return rows;
+    }
+
+    // Ties are broken by id, like the database does, so pages are stable
+    var comparator = sort.getColumns()
+        .stream()
+        .map(this::comparator)
+        .reduce((first, second) -> first.thenComparing(second))
+        .orElseThrow()
+        .thenComparing(longComparator(ArchiveFile.ID));
+
+    return rows.boxed()
+        .sorted(comparator)
+        .mapToInt(Integer::intValue);
+  }
+
+  private Comparator<Integer> comparator(Sort.Column column) {
+    Comparator<Integer> comparator = switch (column.getName()) {
+      case "id" -> longComparator(ArchiveFile.ID);
+      case "timeToComplete" -> longComparator(ArchiveFile.TIME_MS);
+      case "gameDate" -> longComparator(ArchiveFile.GAME_DATE);
+      case "player.firstName" -> stringComparator(ArchiveFile.FIRST_NAME);
+      case "player.lastName" -> stringComparator(ArchiveFile.LAST_NAME);
+      case "player.email" -> stringComparator(ArchiveFile.EMAIL);
+      default -> throw new IllegalArgumentException("Archived games can't be sorted by %s".formatted(column.getName()));
+    };
+
+    return (column.getDirection() == Direction.Descending) ? comparator.reversed() : comparator;
+  }
+
+  private Comparator<Integer> longComparator(int column) {
+    var values = longs(column);
+    return Comparator.comparingLong(row -> values[row]);
+  }
+
+  private Comparator<Integer> stringComparator(int column) {
+    var values = strings(column);
+    // Nulls last, reversed to first for descending sorts, the same as PostgreSQL orders them
+    return Comparator.comparing((Integer row) -> values[row], Comparator.nullsLast(Comparator.<String>naturalOrder()));
+  }
+
+  private GameDto toGameDto(int row) {
+    return new GameDto(
+        longs(ArchiveFile.ID)[row],
+        new PlayerDto(strings(ArchiveFile.FIRST_NAME)[row], strings(ArchiveFile.LAST_NAME)[row], strings(ArchiveFile.EMAIL)[row]),
+        this.eventId,
+        Instant.EPOCH.plus(longs(ArchiveFile.GAME_DATE)[row], ChronoUnit.MICROS),
+        Duration.ofMillis(longs(ArchiveFile.TIME_MS)[row])
+    );
+  }
+
+  private synchronized long[] longs(int column) {
+    if (this.columns[column] == null) {
+      this.columns[column] = this.archiveFile.readLongs(column);
+    }
+
+    return (long[]) this.columns[column];
+  }
+
+  private synchronized String[] strings(int column) {
+    if (this.columns[column] == null) {
+      this.columns[column] = this.archiveFile.readStrings(column);
+    }
+
+    return (String[]) this.columns[column];
+  }
+
+  private static long toMicros(Instant instant) {
+    return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+  }
+}
@@ -0,0 +1,292 @@
+package io.quarkus.gamemanager.archive.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.Response.Status;
+
+import io.quarkus.gamemanager.archive.config.ArchiveConfig;
+import io.quarkus.gamemanager.archive.domain.ArchivedGame;
+import io.quarkus.gamemanager.archive.domain.EventArchiveDto;
+import io.quarkus.gamemanager.archive.domain.EventArchived;
+import io.quarkus.gamemanager.archive.domain.jpa.EventArchive;
+import io.quarkus.gamemanager.archive.mapping.EventArchiveMapper;
+import io.quarkus.gamemanager.archive.repository.EventArchiveRepository;
+import io.quarkus.gamemanager.datasource.ReadRouter;
+import io.quarkus.gamemanager.event.domain.EventDto;
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.repository.GameRepository;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.runtime.StartupEvent;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
+/**
+ * Moves the games of events that are over out of the games table into compressed, columnar archive files, leaving
+ * only a summary row behind, and serves them read only from there. Only the most recently used archives are kept
+ * open.
+ */
+@ApplicationScoped
+public class GameArchiveService {
+  private static final Sort LEADERBOARD_ORDER = Sort.by("timeToComplete").and("id");
+  // The order an event's games are listed in everywhere else
+  private static final Sort GAME_ID_ORDER = Sort.by("id");
+
+  private final ArchiveConfig archiveConfig;
+  private final EventArchiveRepository eventArchiveRepository;
+  private final EventRepository eventRepository;
+  private final GameRepository gameRepository;
+  private final EventArchiveMapper eventArchiveMapper;
+  private final ReadRouter readRouter;
+  private final jakarta.enterprise.event.Event<EventArchived> eventArchived;
+  private final Map<Long, ArchivedGames> openArchives;
+  private volatile Map<Long, EventArchiveDto> archives;
+
+  public GameArchiveService(ArchiveConfig archiveConfig, EventArchiveRepository eventArchiveRepository, EventRepository eventRepository, GameRepository gameRepository, EventArchiveMapper eventArchiveMapper, ReadRouter readRouter, jakarta.enterprise.event.Event<EventArchived> eventArchived) {
+    this.archiveConfig = archiveConfig;
+    this.eventArchiveRepository = eventArchiveRepository;
+    this.eventRepository = eventRepository;
+    this.gameRepository = gameRepository;
+    this.eventArchiveMapper = eventArchiveMapper;
+    this.readRouter = readRouter;
+    this.eventArchived = eventArchived;
+    this.openArchives = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, ArchivedGames> eldest) {
+        return size() > archiveConfig.openArchives();
+      }
+    });
+  }
+
+  public boolean isArchived(Long eventId) {
+    return getArchives().containsKey(eventId);
+  }
+
+  public Optional<EventArchiveDto> findArchive(Long eventId) {
+    return Optional.ofNullable(getArchives().get(eventId));
+  }
+
+  public Optional<ArchivedGames> findArchivedGames(Long eventId) {
+    return findArchive(eventId)
+        .map(archive -> this.openArchives.computeIfAbsent(eventId, _ -> open(archive)));
+  }
+
+  /**
+   * Fills in the games of an archived event, which the event was loaded without since they're no longer in the games
+   * table. Other events are returned as they are.
+   */
+  public EventDto withArchivedGames(EventDto event) {
+    if (event.games().isEmpty()) {
+      findArchivedGames(event.id())
+          .ifPresent(archivedGames -> event.games().addAll(archivedGames.getGames(GAME_ID_ORDER, Optional.empty())));
+    }
+
+    return event;
+  }
+
+  public Optional<Instant> findEarliestGameDate() {
+    return getArchives().values()
+        .stream()
+        .map(EventArchiveDto::firstGameDate)
+        .filter(Objects::nonNull)
+        .min(Comparator.naturalOrder());
+  }
+
+  public Optional<Instant> findLatestGameDate() {
+    return getArchives().values()
+        .stream()
+        .map(EventArchiveDto::lastGameDate)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder());
+  }
+
+  /**
+   * The {@code limit} fastest archived games played in {@code [from, until)}, across all archived events
+   */
+  public List<ArchivedGame> getFastestGames(Optional<Instant> from, Optional<Instant> until, int limit) {
+    return getArchives().keySet()
+        .stream()
+        .map(this::findArchivedGames)
+        .flatMap(Optional::stream)
+        .flatMap(archivedGames -> archivedGames.getFastestGames(from, until, limit).stream())
+        .sorted(Comparator.comparing((ArchivedGame archivedGame) -> archivedGame.game().timeToComplete()).thenComparing(archivedGame -> archivedGame.game().id()))
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * Whether the event has an archive, according to the database rather than to the archives known so far. Meant to be
+   * asked while holding a share lock on the event, after which an archive committed in the meantime is seen.
+   */
+  public boolean hasArchive(Long eventId) {
+    return this.eventArchiveRepository.findByIdOptional(eventId).isPresent();
+  }
+
+  /**
+   * Writes the event's games to its archive file, records a summary of them and drops them (i.e. the event's
+   * partition) from the games table. Archiving an event that is already archived does nothing. Only events that are
+   * over, i.e. whose date has passed in the event's time zone, can be archived.
+   * <p>
+   * The event is locked for update before its games are read, and new games take a share lock on it, so a game is
+   * either committed before its event's games are read or turned down once the event is archived.
+   */
+  @WithSpan("GameArchiveService.archiveEvent")
+  @Transactional
+  public EventArchiveDto archiveEvent(@SpanAttribute("arg.eventId") Long eventId) {
+    var existing = findArchive(eventId);
+
+    if (existing.isPresent()) {
+      return existing.get();
+    }
+
+    var event = this.eventRepository.findByIdOptional(eventId, LockModeType.PESSIMISTIC_WRITE)
+        .orElseThrow(() -> new NotFoundException("Event %d can not be found".formatted(eventId)));
+
+    // Someone else archived it while we waited for the lock
+    var archived = this.eventArchiveRepository.findByIdOptional(eventId);
+
+    if (archived.isPresent()) {
+      return this.eventArchiveMapper.toDto(archived.get());
+    }
+
+    if (!event.getEventDate().isBefore(LocalDate.now(event.getTimeZone()))) {
+      throw new ClientErrorException("Event %d isn't over yet, only past events can be archived".formatted(eventId), Status.CONFLICT);
+    }
+
+    Log.infof("Archiving event %d (%s)", eventId, event.getName());
+    var games = this.gameRepository.getGamesForEvent(eventId, LEADERBOARD_ORDER, Optional.empty());
+    var file = archiveFile(eventId);
+    var fileSize = write(file, games);
+
+    var archive = new EventArchive()
+        .withEventId(eventId)
+        .withEventName(event.getName())
+        .withGames(games.size())
+        .withBestTime(games.isEmpty() ? null : games.getFirst().getTimeToComplete())
+        .withFirstGameDate(games.stream().map(Game::getGameDate).min(Comparator.naturalOrder()).orElse(null))
+        .withLastGameDate(games.stream().map(Game::getGameDate).max(Comparator.naturalOrder()).orElse(null))
+        .withArchivedAt(Instant.now())
+        .withFileName(file.getFileName().toString())
+        .withFileSize(fileSize);
+
+    this.eventArchiveRepository.persist(archive);
+    this.gameRepository.dropPartitionForEvent(eventId);
+    // Games that ended up in the default partition
+    this.gameRepository.delete("event.id", eventId);
+    this.readRouter.recordWrite(ReadRouter.EVENTS_KEY);
+    this.readRouter.recordWrite(ReadRouter.eventKey(eventId));
+
+    var archiveDto = this.eventArchiveMapper.toDto(archive);
+    this.eventArchived.fire(new EventArchived(archiveDto, file));
+    Log.infof("Archived %d games of event %d into %s (%,d bytes)", games.size(), eventId, file, fileSize);
+
+    return archiveDto;
+  }
+
+  // Loaded up front, so asking whether an event is archived never has to block, e.g. on the event loop
+  void onStart(@Observes StartupEvent startupEvent) {
+    getArchives();
+  }
+
+  // Before anything reacting to the archive (e.g. the query cache's version bump) runs
+  void onEventArchived(@Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(Interceptor.Priority.PLATFORM_BEFORE) EventArchived eventArchived) {
+    getArchives().put(eventArchived.archive().eventId(), eventArchived.archive());
+  }
+
+  void onEventArchiveFailed(@Observes(during = TransactionPhase.AFTER_FAILURE) EventArchived eventArchived) {
+    delete(eventArchived.file());
+  }
+
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) EventRemoved eventRemoved) {
+    var eventId = eventRemoved.eventId();
+
+    // The summary row goes along with the event
+    if (getArchives().remove(eventId) != null) {
+      this.openArchives.remove(eventId);
+      delete(archiveFile(eventId));
+    }
+  }
+
+  private Map<Long, EventArchiveDto> getArchives() {
+    var loaded = this.archives;
+
+    if (loaded == null) {
+      synchronized (this) {
+        loaded = this.archives;
+
+        if (loaded == null) {
+          loaded = new ConcurrentHashMap<>();
+          var target = loaded;
+
+          QuarkusTransaction.joiningExisting().run(() ->
+              this.eventArchiveRepository.listAll()
+                  .stream()
+                  .map(this.eventArchiveMapper::toDto)
+                  .forEach(archive -> target.put(archive.eventId(), archive))
+          );
+
+          this.archives = loaded;
+        }
+      }
+    }
+
+    return loaded;
+  }
+
+  private ArchivedGames open(EventArchiveDto archive) {
+    try {
+      return new ArchivedGames(archive.eventId(), archive.eventName(), ArchiveFile.open(archiveFile(archive.eventId())));
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Unable to open the archive of event %d".formatted(archive.eventId()), e);
+    }
+  }
+
+  private Path archiveFile(Long eventId) {
+    return this.archiveConfig.dir().resolve("event-%d.games".formatted(eventId));
+  }
+
+  private static long write(Path file, List<Game> games) {
+    try {
+      return ArchiveFile.write(file, games);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Unable to write archive %s".formatted(file), e);
+    }
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (IOException e) {
+      Log.warnf(e, "Unable to delete archive %s", file);
+    }
+  }
+}
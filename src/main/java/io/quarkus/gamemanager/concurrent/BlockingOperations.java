@@ -0,0 +1,87 @@
+package io.quarkus.gamemanager.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.logging.Log;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Runs blocking work on virtual threads so that nothing holds on to a platform thread while it waits.
+ * Cancelling the returned {@link Uni} interrupts the virtual thread.
+ */
+@ApplicationScoped
+public class BlockingOperations {
+  private final ExecutorService virtualThreadExecutor;
+
+  public BlockingOperations(@VirtualThreads ExecutorService virtualThreadExecutor) {
+    this.virtualThreadExecutor = virtualThreadExecutor;
+  }
+
+  public <T> Uni<T> call(Callable<T> callable) {
+    return Uni.createFrom().emitter(emitter -> {
+      var future = this.virtualThreadExecutor.submit(() -> {
+        try {
+          emitter.complete(callable.call());
+        }
+        catch (Throwable t) {
+          emitter.fail(t);
+        }
+      });
+
+      emitter.onTermination(() -> future.cancel(true));
+    });
+  }
+
+  public Uni<Void> run(BlockingRunnable runnable) {
+    return call(() -> {
+      runnable.run();
+      return null;
+    });
+  }
+
+  /**
+   * Evaluates {@code condition} on a virtual thread until it returns {@code true}. Attempts are spaced by timers
+   * rather than by sleeping, and any failure of the condition is treated as "not yet". Fails with an
+   * {@link IllegalStateException} once {@code atMost} has elapsed.
+   */
+  public Uni<Void> pollUntil(String description, Callable<Boolean> condition, Duration initialDelay, Duration interval, Duration atMost) {
+    var maxAttempts = Math.max(1, atMost.minus(initialDelay).toMillis() / Math.max(1, interval.toMillis()));
+
+    return call(condition)
+        .onItem().transformToUni(ready -> Boolean.TRUE.equals(ready) ?
+            Uni.createFrom().voidItem() :
+            Uni.createFrom().<Void>failure(new NotReadyException(description))
+        )
+        .onFailure().invoke(failure -> Log.infof("Checking %s: %s", description, failure.getMessage()))
+        .onFailure().retry()
+          .withBackOff(interval, interval)
+          .withJitter(0)
+          .atMost(maxAttempts)
+        .onSubscription().call(() -> delay(initialDelay))
+        .ifNoItem().after(atMost).fail()
+        .onFailure().transform(failure -> new IllegalStateException("Gave up waiting for %s after %s".formatted(description, atMost), failure));
+  }
+
+  private static Uni<Void> delay(Duration delay) {
+    return (delay.isZero() || delay.isNegative()) ?
+        Uni.createFrom().voidItem() :
+        Uni.createFrom().voidItem().onItem().delayIt().by(delay);
+  }
+
+  @FunctionalInterface
+  public interface BlockingRunnable {
+    void run() throws Exception;
+  }
+
+  public static final class NotReadyException extends RuntimeException {
+    public NotReadyException(String description) {
+      super("%s not ready yet".formatted(description));
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package io.quarkus.gamemanager.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.logging.Log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A single hierarchical timing wheel shared by every countdown and periodic UI update, however many sessions are open.
+ * <p>
+ * One platform thread advances the wheel every tick. Level {@code n} has {@value #WHEEL_SIZE} slots each covering
+ * {@code WHEEL_SIZE^n} ticks, and a slot of a higher level is cascaded into the lower levels when its time comes, so
+ * scheduling and expiring a timeout are both constant time. Timeouts that fall due on the same tick and share an
+ * {@link Executor} are handed to it as one batch, which for a Vaadin UI means one {@code ui.access} per tick rather
+ * than one per timer.
+ */
+@ApplicationScoped
+public class TimingWheel {
+  static final int WHEEL_SIZE = 64;
+  private static final int WHEEL_BITS = Integer.numberOfTrailingZeros(WHEEL_SIZE);
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int LEVELS = 4;
+  private static final Duration DEFAULT_TICK = Duration.ofMillis(50);
+
+  private final long tickNanos;
+  private final long startNanos = System.nanoTime();
+  private final List<Timeout>[][] wheels;
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger scheduledCount = new AtomicInteger();
+  private final ScheduledExecutorService ticker;
+  private final Counter batchCounter;
+
+  // Only touched by the ticker thread
+  private long currentTick = 0;
+
+  @Inject
+  public TimingWheel(MeterRegistry meterRegistry) {
+    this(DEFAULT_TICK, meterRegistry);
+  }
+
+  TimingWheel(Duration tick, MeterRegistry meterRegistry) {
+    this.tickNanos = tick.toNanos();
+    this.wheels = createWheels();
+    this.batchCounter = Counter.builder("timing.wheel.batches")
+        .description("Number of batches of due timeouts dispatched by the timing wheel")
+        .register(meterRegistry);
+
+    Gauge.builder("timing.wheel.timeouts", this.scheduledCount, AtomicInteger::get)
+        .description("Number of timeouts currently scheduled on the timing wheel")
+        .register(meterRegistry);
+
+    this.ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("timing-wheel").daemon().factory());
+    this.ticker.scheduleAtFixedRate(this::advance, this.tickNanos, this.tickNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    this.ticker.shutdownNow();
+  }
+
+  /**
+   * Runs {@code task} on {@code executor} once {@code delay} has elapsed
+   */
+  public Timeout schedule(Executor executor, Duration delay, Runnable task) {
+    return add(new Timeout(executor, task, System.nanoTime() + delay.toNanos(), 0));
+  }
+
+  /**
+   * Runs {@code task} on {@code executor} every {@code period}, starting one period from now, until cancelled
+   */
+  public Timeout schedulePeriodically(Executor executor, Duration period, Runnable task) {
+    var periodNanos = Math.max(period.toNanos(), this.tickNanos);
+    return add(new Timeout(executor, task, System.nanoTime() + periodNanos, periodNanos));
+  }
+
+  private Timeout add(Timeout timeout) {
+    this.scheduledCount.incrementAndGet();
+    this.pending.add(timeout);
+    return timeout;
+  }
+
+  private void advance() {
+    try {
+      var targetTick = (System.nanoTime() - this.startNanos) / this.tickNanos;
+
+      // Catch up if the ticker thread was held up
+      while (this.currentTick < targetTick) {
+        this.currentTick++;
+        dispatch(expire());
+      }
+    }
+    catch (RuntimeException e) {
+      Log.error("Timing wheel failed to advance", e);
+    }
+  }
+
+  private List<Timeout> expire() {
+    Timeout newTimeout;
+    while ((newTimeout = this.pending.poll()) != null) {
+      place(newTimeout);
+    }
+
+    // Cascade the higher levels whose slot starts on this tick, highest first
+    for (var level = LEVELS - 1; level > 0; level--) {
+      var shift = WHEEL_BITS * level;
+
+      if ((this.currentTick & ((1L << shift) - 1)) == 0) {
+        var slot = this.wheels[level][(int) ((this.currentTick >>> shift) & WHEEL_MASK)];
+        var cascading = new ArrayList<>(slot);
+        slot.clear();
+        cascading.forEach(this::place);
+      }
+    }
+
+    var slot = this.wheels[0][(int) (this.currentTick & WHEEL_MASK)];
+    var due = new ArrayList<Timeout>(slot.size());
+    var notYetDue = new ArrayList<Timeout>();
+
+    for (var timeout : slot) {
+      if (timeout.deadlineTick <= this.currentTick) {
+        due.add(timeout);
+      }
+      else {
+        notYetDue.add(timeout);
+      }
+    }
+
+    slot.clear();
+    slot.addAll(notYetDue);
+
+    return due;
+  }
+
+  private void place(Timeout timeout) {
+    if (timeout.isCancelled()) {
+      this.scheduledCount.decrementAndGet();
+      return;
+    }
+
+    if (timeout.deadlineTick < 0) {
+      timeout.deadlineTick = toTick(timeout.deadlineNanos);
+    }
+
+    var deadlineTick = Math.max(timeout.deadlineTick, this.currentTick);
+    var delta = deadlineTick - this.currentTick;
+    var level = 0;
+
+    while ((level < LEVELS - 1) && (delta >= (1L << (WHEEL_BITS * (level + 1))))) {
+      level++;
+    }
+
+    // Beyond the top level the timeout waits in the furthest slot and is re-placed when that slot cascades
+    var slotTick = Math.min(deadlineTick, this.currentTick + (1L << (WHEEL_BITS * LEVELS)) - 1);
+    this.wheels[level][(int) ((slotTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+  }
+
+  private void dispatch(List<Timeout> due) {
+    if (due.isEmpty()) {
+      return;
+    }
+
+    var batches = new IdentityHashMap<Executor, List<Timeout>>();
+
+    for (var timeout : due) {
+      if (timeout.isCancelled()) {
+        this.scheduledCount.decrementAndGet();
+      }
+      else {
+        batches.computeIfAbsent(timeout.executor, _ -> new ArrayList<>()).add(timeout);
+
+        if (timeout.periodNanos > 0) {
+          timeout.deadlineNanos += timeout.periodNanos;
+          timeout.deadlineTick = toTick(timeout.deadlineNanos);
+          place(timeout);
+        }
+        else {
+          this.scheduledCount.decrementAndGet();
+        }
+      }
+    }
+
+    batches.forEach(this::dispatchBatch);
+  }
+
+  private void dispatchBatch(Executor executor, List<Timeout> batch) {
+    this.batchCounter.increment();
+
+    try {
+      executor.execute(() -> batch.forEach(Timeout::run));
+    }
+    catch (RuntimeException e) {
+      Log.warnf(e, "Unable to dispatch %d timeouts", batch.size());
+    }
+  }
+
+  private long toTick(long nanos) {
+    // Round up so a timeout never fires early
+    return Math.ceilDiv(nanos - this.startNanos, this.tickNanos);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Timeout>[][] createWheels() {
+    var wheels = new List[LEVELS][WHEEL_SIZE];
+
+    for (var level = 0; level < LEVELS; level++) {
+      for (var slot = 0; slot < WHEEL_SIZE; slot++) {
+        wheels[level][slot] = new ArrayList<Timeout>();
+      }
+    }
+
+    return (List<Timeout>[][]) wheels;
+  }
+
+  int getScheduledCount() {
+    return this.scheduledCount.get();
+  }
+
+  public static final class Timeout {
+    private final Executor executor;
+    private final Runnable task;
+    private final long periodNanos;
+    private volatile boolean cancelled = false;
+    private long deadlineNanos;
+    private long deadlineTick = -1;
+
+    private Timeout(Executor executor, Runnable task, long deadlineNanos, long periodNanos) {
+      this.executor = executor;
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+      this.periodNanos = periodNanos;
+    }
+
+    public void cancel() {
+      this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+      return this.cancelled;
+    }
+
+    private void run() {
+      if (!this.cancelled) {
+        try {
+          this.task.run();
+        }
+        catch (RuntimeException e) {
+          Log.warn("Timeout task failed", e);
+        }
+      }
+    }
+  }
+}
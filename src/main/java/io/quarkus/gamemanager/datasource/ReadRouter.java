@@ -0,0 +1,114 @@
+package io.quarkus.gamemanager.datasource;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import io.quarkus.gamemanager.datasource.config.ReadReplicaConfig;
+import io.quarkus.logging.Log;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes read-only queries to the {@value #READ_DATASOURCE} datasource (a replica) when it is configured and enabled,
+ * otherwise to the primary.
+ * <p>
+ * Reads of something written within the last {@link ReadReplicaConfig#readYourWritesWindow()} go to the primary, so a
+ * player's new score shows up on the leaderboard straight away even if the replica lags. Replica reads run in their
+ * own read-only Hibernate session on a connection from the read datasource, outside of any transaction, so anything
+ * lazy has to be loaded inside the query function. Primary reads run in the caller's session, which is read-only for
+ * the duration of the query, so nothing they load is snapshotted or dirty checked either.
+ */
+@ApplicationScoped
+public class ReadRouter {
+  public static final String READ_DATASOURCE = "read";
+  public static final String EVENTS_KEY = "events";
+
+  private final EntityManager entityManager;
+  private final SessionFactory sessionFactory;
+  private final Optional<AgroalDataSource> readDataSource;
+  private final ReadYourWrites readYourWrites;
+  private final MeterRegistry meterRegistry;
+
+  public ReadRouter(EntityManager entityManager, SessionFactory sessionFactory, @Any Instance<AgroalDataSource> dataSources, ReadReplicaConfig readReplicaConfig, MeterRegistry meterRegistry) {
+    this.entityManager = entityManager;
+    this.sessionFactory = sessionFactory;
+    this.meterRegistry = meterRegistry;
+    this.readYourWrites = new ReadYourWrites(readReplicaConfig.readYourWritesWindow(), System::nanoTime);
+
+    var readDataSourceInstance = dataSources.select(new DataSourceLiteral(READ_DATASOURCE));
+    this.readDataSource = (readReplicaConfig.enabled() && readDataSourceInstance.isResolvable()) ?
+        Optional.of(readDataSourceInstance.get()) :
+        Optional.empty();
+
+    Log.infof("Read replica routing is %s", this.readDataSource.isPresent() ? "enabled" : "disabled");
+  }
+
+  public static String eventKey(Long eventId) {
+    return "event:%d".formatted(eventId);
+  }
+
+  /**
+   * Runs {@code query} against the replica unless {@code key} was written recently or there is no replica
+   */
+  public <T> T read(String key, Function<EntityManager, T> query) {
+    if (this.readDataSource.isPresent() && !this.readYourWrites.isRecentlyWritten(key)) {
+      try {
+        var result = readFromReplica(this.readDataSource.get(), query);
+        countRead("replica");
+        return result;
+      }
+      // Hibernate wraps errors from the replica's connection (including HibernateException) as PersistenceException
+      catch (SQLException | PersistenceException e) {
+        Log.warnf(e, "Unable to read [%s] from the read replica, falling back to the primary", key);
+      }
+    }
+
+    countRead("primary");
+    return readFromPrimary(query);
+  }
+
+  public void recordWrite(String key) {
+    this.readYourWrites.recordWrite(key);
+  }
+
+  private <T> T readFromReplica(AgroalDataSource dataSource, Function<EntityManager, T> query) throws SQLException {
+    try (var connection = dataSource.getConnection();
+         var session = this.sessionFactory.withOptions()
+             .connection(connection)
+             .autoJoinTransactions(false)
+             .openSession()) {
+
+      session.setDefaultReadOnly(true);
+      return query.apply(session);
+    }
+  }
+
+  private <T> T readFromPrimary(Function<EntityManager, T> query) {
+    var session = this.entityManager.unwrap(Session.class);
+    var defaultReadOnly = session.isDefaultReadOnly();
+    session.setDefaultReadOnly(true);
+
+    try {
+      return query.apply(this.entityManager);
+    }
+    finally {
+      session.setDefaultReadOnly(defaultReadOnly);
+    }
+  }
+
+  private void countRead(String target) {
+    this.meterRegistry.counter("datasource.reads", "target", target).increment();
+  }
+}
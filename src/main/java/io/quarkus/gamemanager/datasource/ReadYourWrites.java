@@ -0,0 +1,40 @@
+package io.quarkus.gamemanager.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers what was written recently, so that reads of it can go to the primary until the replica has caught up
+ */
+final class ReadYourWrites {
+  private final long windowNanos;
+  private final LongSupplier nanoTime;
+  private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+  ReadYourWrites(Duration window, LongSupplier nanoTime) {
+    this.windowNanos = window.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  void recordWrite(String key) {
+    this.lastWrites.put(key, this.nanoTime.getAsLong());
+  }
+
+  boolean isRecentlyWritten(String key) {
+    var lastWrite = this.lastWrites.get(key);
+
+    if (lastWrite == null) {
+      return false;
+    }
+
+    if ((this.nanoTime.getAsLong() - lastWrite) < this.windowNanos) {
+      return true;
+    }
+
+    // Expired, so stop tracking it. Only removed if nobody wrote again in the meantime.
+    this.lastWrites.remove(key, lastWrite);
+    return false;
+  }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.gamemanager.datasource.config;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "game-manager.read-replica")
+public interface ReadReplicaConfig {
+  /**
+   * Whether reads are routed to the {@code read} datasource. Has no effect unless that datasource is configured.
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * For how long after a write reads of the written data keep going to the primary, to cover replication lag
+   */
+  @WithDefault("5s")
+  Duration readYourWritesWindow();
+}
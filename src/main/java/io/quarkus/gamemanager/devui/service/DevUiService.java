@@ -1,58 +1,75 @@
 package io.quarkus.gamemanager.devui.service;
 
-import static org.awaitility.Awaitility.await;
-
-import java.io.IOException;
-import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
-import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.core.Response.Status;
 
-import org.eclipse.microprofile.rest.client.inject.RestClient;
-
-import io.quarkus.gamemanager.game.client.GameDevUiClient;
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
 import io.quarkus.gamemanager.game.config.GameConfig;
+import io.quarkus.gamemanager.game.domain.SetupPhase;
 import io.quarkus.gamemanager.ide.IdeService;
+import io.quarkus.gamemanager.ide.PhaseTimer;
+import io.quarkus.gamemanager.station.domain.Station;
 import io.quarkus.logging.Log;
 
+import io.smallrye.mutiny.Uni;
+
 public class DevUiService implements IdeService {
-  private final GameDevUiClient gameDevUiClient;
   private final GameConfig gameConfig;
+  private final BlockingOperations blockingOperations;
 
-  public DevUiService(@RestClient GameDevUiClient gameDevUiClient, GameConfig gameConfig) {
-    this.gameDevUiClient = gameDevUiClient;
+  public DevUiService(GameConfig gameConfig, BlockingOperations blockingOperations) {
     this.gameConfig = gameConfig;
+    this.blockingOperations = blockingOperations;
   }
 
   @Override
-  public void startInIde(Path gameDir) {
-    try {
-      var appProcess = new ProcessBuilder(this.gameConfig.appStartupCommand().split(" "))
-          .directory(gameDir.toFile())
-          .start();
-
-      appProcess.onExit()
-          .thenAccept(p -> Log.infof("Dev mode process %d exited with code: %d", p.pid(), p.exitValue()));
-
-      Log.infof("Started appProcess: %s", appProcess.pid());
-
-      // Now wait for dev mode to start
-      await("For app to start")
-          .ignoreException(ProcessingException.class)
-          .atMost(Duration.ofMinutes(1))
-          .pollInterval(Duration.ofSeconds(3))
-          .pollDelay(Duration.ofSeconds(3))
-          .logging(log -> Log.infof("Checking to see if app is up: %s", log))
-          .until(() -> appProcess.isAlive() && this.gameDevUiClient.health().getStatus() == Status.OK.getStatusCode());
-
-      new ProcessBuilder("open", "%s/workspace".formatted(this.gameConfig.appDevUiUrl().toString()))
-          .start()
-          .onExit()
-          .thenAccept(p -> Log.infof("External process %d exited with code: %d", p.pid(), p.exitValue()));
-    }
-    catch (IOException e) {
-      throw new RuntimeException(e);
+  public Uni<Void> startInIde(Station station, PhaseTimer phaseTimer) {
+    var appProcessStart = this.blockingOperations.call(() ->
+        new ProcessBuilder(createStartupCommand(station))
+            .directory(station.getCheckoutDir().toFile())
+            .start()
+    );
+
+    return phaseTimer.time(SetupPhase.IDE_LAUNCH, appProcessStart)
+        .invoke(appProcess -> {
+          appProcess.onExit()
+              .thenAccept(p -> Log.infof("Dev mode process %d exited with code: %d", p.pid(), p.exitValue()));
+
+          Log.infof("Started appProcess: %s", appProcess.pid());
+        })
+        // Now wait for dev mode to start
+        .call(appProcess -> phaseTimer.time(
+            SetupPhase.HEALTH_WAIT,
+            this.blockingOperations.pollUntil(
+                "app startup",
+                () -> appProcess.isAlive() && isHealthy(station),
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(3),
+                Duration.ofMinutes(1)
+            )
+        ))
+        .call(() -> this.blockingOperations.run(() ->
+            new ProcessBuilder("open", "%s/workspace".formatted(station.getAppDevUiUrl().toString()))
+                .start()
+                .onExit()
+                .thenAccept(p -> Log.infof("External process %d exited with code: %d", p.pid(), p.exitValue()))
+        ))
+        .replaceWithVoid();
+  }
+
+  private static boolean isHealthy(Station station) {
+    try (var response = station.getGameDevUiClient().health()) {
+      return response.getStatus() == Status.OK.getStatusCode();
     }
   }
+
+  private List<String> createStartupCommand(Station station) {
+    var command = new ArrayList<>(List.of(this.gameConfig.appStartupCommand().split(" ")));
+    command.add("-Dquarkus.http.port=%d".formatted(station.getAppHttpPort()));
+
+    return command;
+  }
 }
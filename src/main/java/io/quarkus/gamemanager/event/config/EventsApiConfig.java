@@ -0,0 +1,14 @@
+package io.quarkus.gamemanager.event.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "game-manager.events-api")
+public interface EventsApiConfig {
+  /**
+   * Whether {@code GET /events} is served from the event loop by the reactive Postgres client, rather than by
+   * Hibernate ORM on virtual threads
+   */
+  @WithDefault("false")
+  boolean reactive();
+}
@@ -0,0 +1,36 @@
+package io.quarkus.gamemanager.event.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Position in the events ordered by {@code (eventDate, id)}. Encoded as an opaque string for clients.
+ */
+public record EventCursor(LocalDate eventDate, long id) {
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString("%s%s%d".formatted(this.eventDate, SEPARATOR, this.id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static EventCursor decode(String cursor) {
+    try {
+      var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      var separatorIndex = decoded.indexOf(SEPARATOR);
+
+      return new EventCursor(
+          LocalDate.parse(decoded.substring(0, separatorIndex)),
+          Long.parseLong(decoded.substring(separatorIndex + 1))
+      );
+    }
+    catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor: %s".formatted(cursor), e);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.gamemanager.event.domain;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,13 +21,27 @@ public record EventDto(
 
     @NotEmpty(message = "Description is required")
     String description,
+
+    /**
+     * The zone the event takes place in, which decides what day each of its games was played on
+     */
+    @NotNull(message = "Time zone is required")
+    ZoneId timeZone,
     List<GameDto> games
 ) {
+  public EventDto(Long id, LocalDate eventDate, String name, String description, ZoneId timeZone) {
+    this(id, eventDate, name, description, timeZone, new ArrayList<>());
+  }
+
   public EventDto(Long id, LocalDate eventDate, String name, String description) {
-    this(id, eventDate, name, description, new ArrayList<>());
+    this(id, eventDate, name, description, ZoneId.systemDefault());
+  }
+
+  public EventDto(LocalDate eventDate, String name, String description, ZoneId timeZone) {
+    this(null, eventDate, name, description, timeZone);
   }
 
   public EventDto(LocalDate eventDate, String name, String description) {
-    this(null, eventDate, name, description);
+    this(eventDate, name, description, ZoneId.systemDefault());
   }
 }
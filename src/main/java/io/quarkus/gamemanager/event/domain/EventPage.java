@@ -0,0 +1,30 @@
+package io.quarkus.gamemanager.event.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+public record EventPage(
+    List<EventDto> events,
+    EventCursor next
+) {
+  /**
+   * Builds the page from up to one more event than the query's page size. There is a next page if that extra event
+   * exists, unless the events are ranked search results, which can't be paged.
+   */
+  public static EventPage of(List<EventDto> events, EventQuery eventQuery) {
+    var pageSize = eventQuery.getPageSize();
+    var hasNext = (events.size() > pageSize) && eventQuery.getSearch().isEmpty();
+    var page = events.stream()
+        .limit(pageSize)
+        .toList();
+    var next = hasNext ?
+        new EventCursor(page.getLast().eventDate(), page.getLast().id()) :
+        null;
+
+    return new EventPage(page, next);
+  }
+
+  public Optional<EventCursor> getNext() {
+    return Optional.ofNullable(next);
+  }
+}
@@ -1,30 +1,47 @@
 package io.quarkus.gamemanager.event.domain;
 
-import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Optional;
 
 import jakarta.ws.rs.QueryParam;
 
 public record EventQuery(
     @QueryParam("start")
-    Instant start,
+    LocalDate start,
 
     @QueryParam("end")
-    Instant end,
+    LocalDate end,
 
     @QueryParam("name")
-    String name
+    String name,
+
+    /**
+     * Fuzzy, typo tolerant search on the event name. Results are ranked by how closely they match.
+     */
+    @QueryParam("search")
+    String search,
+
+    /**
+     * Cursor returned in the {@code next} link of the previous page
+     */
+    @QueryParam("after")
+    String after,
+
+    @QueryParam("size")
+    Integer size
 ) {
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 200;
 
   public static EventQuery empty() {
-    return new EventQuery(null, null, null);
+    return new EventQuery(null, null, null, null, null, null);
   }
 
-  public Optional<Instant> getStart() {
+  public Optional<LocalDate> getStart() {
     return Optional.ofNullable(start);
   }
 
-  public Optional<Instant> getEnd() {
+  public Optional<LocalDate> getEnd() {
     return Optional.ofNullable(end);
   }
 
@@ -32,4 +49,20 @@ public record EventQuery(
     return Optional.ofNullable(name)
         .filter(s -> !s.isBlank());
   }
+
+  public Optional<String> getSearch() {
+    return Optional.ofNullable(search)
+        .map(String::strip)
+        .filter(s -> !s.isBlank());
+  }
+
+  public Optional<EventCursor> getAfter() {
+    return Optional.ofNullable(after)
+        .filter(s -> !s.isBlank())
+        .map(EventCursor::decode);
+  }
+
+  public int getPageSize() {
+    return Math.clamp(Optional.ofNullable(size).orElse(DEFAULT_PAGE_SIZE), 1, MAX_PAGE_SIZE);
+  }
 }
@@ -0,0 +1,7 @@
+package io.quarkus.gamemanager.event.domain;
+
+/**
+ * Fired when an event, and with it all of its games, is deleted
+ */
+public record EventRemoved(Long eventId) {
+}
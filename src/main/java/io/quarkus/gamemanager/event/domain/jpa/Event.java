@@ -1,12 +1,14 @@
 package io.quarkus.gamemanager.event.domain.jpa;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -38,6 +40,14 @@ public class Event {
   @Column(columnDefinition = "TEXT")
   private String description;
 
+  /**
+   * The day each game was played on is taken in this zone
+   */
+  @NotNull(message = "Time zone is required")
+  @Column(nullable = false, length = 64)
+  @Convert(converter = ZoneIdConverter.class)
+  private ZoneId timeZone = ZoneId.systemDefault();
+
   @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<Game> games = new ArrayList<>();
 
@@ -45,6 +55,7 @@ public class Event {
     return withEventDate(event.getEventDate())
         .withName(event.getName())
         .withDescription(event.getDescription())
+        .withTimeZone(event.getTimeZone())
         .withGames(event.getGames());
   }
 
@@ -100,6 +111,19 @@ public class Event {
     withName(name);
   }
 
+  public ZoneId getTimeZone() {
+    return timeZone;
+  }
+
+  public void setTimeZone(ZoneId timeZone) {
+    withTimeZone(timeZone);
+  }
+
+  public Event withTimeZone(ZoneId timeZone) {
+    this.timeZone = timeZone;
+    return this;
+  }
+
   public List<Game> getGames() {
     return games;
   }
@@ -138,6 +162,7 @@ public class Event {
         ", name='" + getName() + '\'' +
         ", id=" + getId() +
         ", eventDate=" + getEventDate() +
+        ", timeZone=" + getTimeZone() +
         ", games=" + getGames() +
         '}';
   }
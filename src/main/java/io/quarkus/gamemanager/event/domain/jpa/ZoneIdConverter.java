@@ -0,0 +1,23 @@
+package io.quarkus.gamemanager.event.domain.jpa;
+
+import java.time.ZoneId;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link ZoneId} by its id (e.g. {@code Europe/Amsterdam}), which the database understands as a time zone
+ * name as well
+ */
+@Converter
+public class ZoneIdConverter implements AttributeConverter<ZoneId, String> {
+  @Override
+  public String convertToDatabaseColumn(ZoneId zoneId) {
+    return (zoneId != null) ? zoneId.getId() : null;
+  }
+
+  @Override
+  public ZoneId convertToEntityAttribute(String zoneId) {
+    return (zoneId != null) ? ZoneId.of(zoneId) : null;
+  }
+}
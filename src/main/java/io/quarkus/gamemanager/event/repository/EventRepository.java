@@ -1,11 +1,14 @@
 package io.quarkus.gamemanager.event.repository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.transaction.Transactional;
 
@@ -29,29 +32,101 @@ public class EventRepository implements PanacheRepository<Event> {
         .forEach(this::deleteById);
   }
 
+  public Optional<String> findEventName(Long eventId) {
+    return find("SELECT name FROM Event WHERE id = ?1", eventId)
+        .project(String.class)
+        .firstResultOptional();
+  }
+
+  // Matches the lower(name) unique index
   public Optional<Event> findByEventName(String eventName) {
     return find("LOWER(name) = ?1", Optional.ofNullable(eventName).map(String::toLowerCase).orElse("")).firstResultOptional();
   }
 
+  /**
+   * All events matching the query, ordered by {@code (eventDate, id)} or by relevance when searching
+   */
   public List<Event> getEvents(EventQuery eventQuery) {
+    return eventQuery.getSearch()
+        .map(search -> searchEvents(getEntityManager(), search, eventQuery, Optional.empty()))
+        .orElseGet(() -> filterEvents(getEntityManager(), eventQuery, Optional.empty()));
+  }
+
+  /**
+   * At most {@code limit} events matching the query, starting after the query's cursor. Ranked search results have
+   * no stable key to page on, so the cursor is ignored when searching.
+   */
+  public List<Event> getEventPage(EventQuery eventQuery, int limit) {
+    return getEventPage(getEntityManager(), eventQuery, limit);
+  }
+
+  /**
+   * Same as {@link #getEventPage(EventQuery, int)}, but runs on the given EntityManager, e.g. one on the read replica
+   */
+  public List<Event> getEventPage(EntityManager entityManager, EventQuery eventQuery, int limit) {
+    return eventQuery.getSearch()
+        .map(search -> searchEvents(entityManager, search, eventQuery, Optional.of(limit)))
+        .orElseGet(() -> filterEvents(entityManager, eventQuery, Optional.of(limit)));
+  }
+
+  /**
+   * Fuzzy search using the trigram index. {@code <%} is true when the search term is similar enough to some part of
+   * the name, so "devnexs" finds "DevNexus 2026". Results are ordered best match first.
+   */
+  private List<Event> searchEvents(EntityManager entityManager, String search, EventQuery eventQuery, Optional<Integer> limit) {
+    var sql = new StringBuilder("SELECT * FROM events WHERE :search <% lower(name)");
+    eventQuery.getStart().ifPresent(_ -> sql.append(" AND event_date >= :start"));
+    eventQuery.getEnd().ifPresent(_ -> sql.append(" AND event_date <= :end"));
+    eventQuery.getName().ifPresent(_ -> sql.append(" AND lower(name) LIKE :name"));
+    sql.append(" ORDER BY word_similarity(:search, lower(name)) DESC, event_date DESC, id DESC");
+
+    var query = entityManager.createNativeQuery(sql.toString(), Event.class)
+        .setParameter("search", search.toLowerCase());
+
+    eventQuery.getStart().ifPresent(start -> query.setParameter("start", start));
+    eventQuery.getEnd().ifPresent(end -> query.setParameter("end", end));
+    eventQuery.getName().ifPresent(name -> query.setParameter("name", "%" + name.toLowerCase() + "%"));
+    limit.ifPresent(query::setMaxResults);
+
+    return query.getResultList();
+  }
+
+  private List<Event> filterEvents(EntityManager entityManager, EventQuery eventQuery, Optional<Integer> limit) {
     var query = this.criteriaBuilder.createQuery(Event.class);
     var root = query.from(Event.class);
-    var predicates = new ArrayList<Predicate>(3);
+    var predicates = new ArrayList<Predicate>(4);
+    Path<LocalDate> eventDate = root.get("eventDate");
+    Path<Long> id = root.get("id");
 
     eventQuery.getStart()
-        .map(start -> this.criteriaBuilder.greaterThanOrEqualTo(root.get("eventDate"), start))
+        .map(start -> this.criteriaBuilder.greaterThanOrEqualTo(eventDate, start))
         .ifPresent(predicates::add);
 
     eventQuery.getEnd()
-        .map(end -> this.criteriaBuilder.lessThanOrEqualTo(root.get("eventDate"), end))
+        .map(end -> this.criteriaBuilder.lessThanOrEqualTo(eventDate, end))
         .ifPresent(predicates::add);
 
     eventQuery.getName()
         .map(name -> this.criteriaBuilder.like(this.criteriaBuilder.lower(root.get("name")), "%" + name.toLowerCase() + "%"))
         .ifPresent(predicates::add);
 
-    query.where(predicates.toArray(Predicate[]::new));
+    // Keyset pagination: (eventDate, id) > (cursor.eventDate, cursor.id)
+    limit.flatMap(_ -> eventQuery.getAfter())
+        .map(after -> this.criteriaBuilder.or(
+            this.criteriaBuilder.greaterThan(eventDate, after.eventDate()),
+            this.criteriaBuilder.and(
+                this.criteriaBuilder.equal(eventDate, after.eventDate()),
+                this.criteriaBuilder.greaterThan(id, after.id())
+            )
+        ))
+        .ifPresent(predicates::add);
+
+    query.where(predicates.toArray(Predicate[]::new))
+        .orderBy(this.criteriaBuilder.asc(eventDate), this.criteriaBuilder.asc(id));
+
+    var typedQuery = entityManager.createQuery(query);
+    limit.ifPresent(typedQuery::setMaxResults);
 
-    return getEntityManager().createQuery(query).getResultList();
+    return typedQuery.getResultList();
   }
 }
@@ -0,0 +1,130 @@
+package io.quarkus.gamemanager.event.repository;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.event.domain.EventDto;
+import io.quarkus.gamemanager.event.domain.EventQuery;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Non-blocking counterpart of {@link EventRepository#getEventPage(EventQuery, int)} on the reactive Postgres client.
+ * Rows are mapped straight into DTOs: a page of events, then the games of all of them in a single second query.
+ */
+@ApplicationScoped
+public class ReactiveEventRepository {
+  private static final String GAMES_SQL = """
+      SELECT g.id, g.event_id, g.game_date, g.time_ms, p.first_name, p.last_name, p.email
+      FROM games g JOIN players p ON p.id = g.player_id
+      WHERE g.event_id = ANY($1)
+      ORDER BY g.id""";
+
+  private final Pool pool;
+
+  public ReactiveEventRepository(Pool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * At most {@code limit} events matching the query, starting after the query's cursor, each with its games. Same
+   * ordering and filtering as {@link EventRepository#getEventPage(EventQuery, int)}.
+   */
+  public Uni<List<EventDto>> getEventPage(EventQuery eventQuery, int limit) {
+    var parameters = Tuple.tuple();
+    var sql = eventQuery.getSearch()
+        .map(search -> searchEventsSql(search, eventQuery, parameters))
+        .orElseGet(() -> filterEventsSql(eventQuery, parameters));
+
+    parameters.addInteger(limit);
+
+    return this.pool.preparedQuery("%s LIMIT $%d".formatted(sql, parameters.size()))
+        .execute(parameters)
+        .map(ReactiveEventRepository::toEventDtos)
+        .flatMap(this::withGames);
+  }
+
+  // Same as EventRepository.searchEvents: <% is true when the search term is similar enough to some part of the name
+  private static String searchEventsSql(String search, EventQuery eventQuery, Tuple parameters) {
+    parameters.addString(search.toLowerCase());
+    var sql = new StringBuilder("SELECT id, event_date, name, description, time_zone FROM events WHERE $1 <% lower(name)");
+    appendFilters(sql, eventQuery, parameters);
+
+    return sql.append(" ORDER BY word_similarity($1, lower(name)) DESC, event_date DESC, id DESC").toString();
+  }
+
+  private static String filterEventsSql(EventQuery eventQuery, Tuple parameters) {
+    var sql = new StringBuilder("SELECT id, event_date, name, description, time_zone FROM events WHERE true");
+    appendFilters(sql, eventQuery, parameters);
+
+    // Keyset pagination: (event_date, id) > (cursor.eventDate, cursor.id)
+    eventQuery.getAfter().ifPresent(after -> {
+      parameters.addLocalDate(after.eventDate()).addLong(after.id());
+      sql.append(" AND (event_date, id) > ($%d, $%d)".formatted(parameters.size() - 1, parameters.size()));
+    });
+
+    return sql.append(" ORDER BY event_date, id").toString();
+  }
+
+  private static void appendFilters(StringBuilder sql, EventQuery eventQuery, Tuple parameters) {
+    eventQuery.getStart().ifPresent(start -> sql.append(" AND event_date >= $%d".formatted(parameters.addLocalDate(start).size())));
+    eventQuery.getEnd().ifPresent(end -> sql.append(" AND event_date <= $%d".formatted(parameters.addLocalDate(end).size())));
+    eventQuery.getName().ifPresent(name -> sql.append(" AND lower(name) LIKE $%d".formatted(parameters.addString("%" + name.toLowerCase() + "%").size())));
+  }
+
+  private Uni<List<EventDto>> withGames(List<EventDto> events) {
+    if (events.isEmpty()) {
+      return Uni.createFrom().item(events);
+    }
+
+    var eventsById = events.stream().collect(Collectors.toMap(EventDto::id, Function.identity()));
+
+    return this.pool.preparedQuery(GAMES_SQL)
+        .execute(Tuple.of(eventsById.keySet().toArray(Long[]::new)))
+        .map(rows -> {
+          rows.forEach(row -> {
+            var game = toGameDto(row);
+            eventsById.get(game.eventId()).games().add(game);
+          });
+
+          return events;
+        });
+  }
+
+  private static List<EventDto> toEventDtos(RowSet<Row> rows) {
+    return StreamSupport.stream(rows.spliterator(), false)
+        .map(row -> new EventDto(
+            row.getLong("id"),
+            row.getLocalDate("event_date"),
+            row.getString("name"),
+            row.getString("description"),
+            ZoneId.of(row.getString("time_zone")),
+            new ArrayList<>()
+        ))
+        .toList();
+  }
+
+  private static GameDto toGameDto(Row row) {
+    return new GameDto(
+        row.getLong("id"),
+        new PlayerDto(row.getString("first_name"), row.getString("last_name"), row.getString("email")),
+        row.getLong("event_id"),
+        row.getOffsetDateTime("game_date").toInstant(),
+        // Stored as milliseconds, see DurationToMillisConverter
+        Duration.ofMillis(row.getLong("time_ms"))
+    );
+  }
+}
@@ -6,26 +6,67 @@ import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.UriInfo;
 
+import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.RestResponse.ResponseBuilder;
+
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
+import io.quarkus.gamemanager.event.config.EventsApiConfig;
 import io.quarkus.gamemanager.event.domain.EventDto;
+import io.quarkus.gamemanager.event.domain.EventPage;
 import io.quarkus.gamemanager.event.domain.EventQuery;
 import io.quarkus.gamemanager.event.service.EventService;
+import io.quarkus.gamemanager.event.service.ReactiveEventService;
 
-import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
 
 @Path("/events")
 @Produces(MediaType.APPLICATION_JSON)
-@RunOnVirtualThread
 public class EventResource {
   private final EventService eventService;
+  private final ReactiveEventService reactiveEventService;
+  private final BlockingOperations blockingOperations;
+  private final boolean reactive;
 
-  public EventResource(EventService eventService) {
+  public EventResource(EventService eventService, ReactiveEventService reactiveEventService, BlockingOperations blockingOperations, EventsApiConfig eventsApiConfig) {
     this.eventService = eventService;
+    this.reactiveEventService = reactiveEventService;
+    this.blockingOperations = blockingOperations;
+    this.reactive = eventsApiConfig.reactive();
   }
 
+  /**
+   * Events ordered by date, at most {@code size} (default {@value EventQuery#DEFAULT_PAGE_SIZE}, max
+   * {@value EventQuery#MAX_PAGE_SIZE}) at a time. If there are more, the response has a {@code Link} header with
+   * {@code rel="next"} pointing at the next page.
+   * <p>
+   *   Served from the event loop by the reactive client when {@code game-manager.events-api.reactive} is set,
+   *   otherwise by Hibernate ORM on a virtual thread.
+   * </p>
+   */
   @GET
-  public List<EventDto> getAllEvents(@BeanParam EventQuery eventQuery) {
-    return this.eventService.getAllEvents(eventQuery);
+  public Uni<RestResponse<List<EventDto>>> getAllEvents(@BeanParam EventQuery eventQuery, @Context UriInfo uriInfo) {
+    var page = this.reactive ?
+        this.reactiveEventService.getEventPage(eventQuery) :
+        this.blockingOperations.call(() -> this.eventService.getEventPage(eventQuery));
+
+    return page.map(p -> toResponse(p, uriInfo));
+  }
+
+  private static RestResponse<List<EventDto>> toResponse(EventPage page, UriInfo uriInfo) {
+    var response = ResponseBuilder.ok(page.events());
+
+    page.getNext()
+        .map(next -> Link.fromUriBuilder(uriInfo.getRequestUriBuilder().replaceQueryParam("after", next.encode()))
+            .rel("next")
+            .build()
+        )
+        .ifPresent(response::links);
+
+    return response.build();
   }
 }
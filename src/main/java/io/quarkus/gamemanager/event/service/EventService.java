@@ -4,16 +4,24 @@ import java.util.List;
 import java.util.Optional;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.datasource.ReadRouter;
 import io.quarkus.gamemanager.event.domain.EventDto;
+import io.quarkus.gamemanager.event.domain.EventPage;
 import io.quarkus.gamemanager.event.domain.EventQuery;
+import io.quarkus.gamemanager.event.domain.EventRemoved;
 import io.quarkus.gamemanager.event.mapping.EventMapper;
 import io.quarkus.gamemanager.event.repository.EventRepository;
 import io.quarkus.gamemanager.game.repository.GameRepository;
 import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
@@ -23,11 +31,17 @@ public class EventService {
   private final EventRepository eventRepository;
   private final GameRepository gameRepository;
   private final EventMapper eventMapper;
+  private final ReadRouter readRouter;
+  private final GameArchiveService gameArchiveService;
+  private final Event<EventRemoved> eventRemoved;
 
-  public EventService(EventRepository eventRepository, GameRepository gameRepository, EventMapper eventMapper) {
+  public EventService(EventRepository eventRepository, GameRepository gameRepository, EventMapper eventMapper, ReadRouter readRouter, GameArchiveService gameArchiveService, Event<EventRemoved> eventRemoved) {
     this.eventRepository = eventRepository;
     this.gameRepository = gameRepository;
     this.eventMapper = eventMapper;
+    this.readRouter = readRouter;
+    this.gameArchiveService = gameArchiveService;
+    this.eventRemoved = eventRemoved;
   }
 
   @WithSpan("EventService.getAllEvents")
@@ -40,7 +54,18 @@ public class EventService {
   public Optional<EventDto> findEventByName(@SpanAttribute("arg.eventName") String eventName) {
     Log.infof("Finding event with name: %s", eventName);
     return this.eventRepository.findByEventName(eventName)
-        .map(this.eventMapper::toDto);
+        .map(this.eventMapper::toDto)
+        .map(this.gameArchiveService::withArchivedGames);
+  }
+
+  /**
+   * Just the event's name, without loading the event or any of its games
+   */
+  @WithSpan("EventService.findEventName")
+  @Transactional
+  public Optional<String> findEventName(@SpanAttribute("arg.eventId") Long eventId) {
+    Log.infof("Finding name of event with id: %s", eventId);
+    return this.eventRepository.findEventName(eventId);
   }
 
   @WithSpan("EventService.getAllEventsWithQuery")
@@ -50,14 +75,49 @@ public class EventService {
     return this.eventRepository.getEvents(eventQuery)
         .stream()
         .map(this.eventMapper::toDto)
+        .map(this.gameArchiveService::withArchivedGames)
         .toList();
   }
 
+  /**
+   * One bounded page of events. There is a next page if one more event than the page size exists.
+   */
+  @WithSpan("EventService.getEventPage")
+  @Transactional
+  public EventPage getEventPage(@SpanAttribute("arg.query") EventQuery eventQuery) {
+    Log.infof("Getting page of events with query: %s", eventQuery);
+
+    // Mapped inside the read so the games are loaded while the (possibly replica) session is still open
+    var events = this.readRouter.read(ReadRouter.EVENTS_KEY, entityManager ->
+        this.eventRepository.getEventPage(entityManager, eventQuery, eventQuery.getPageSize() + 1)
+            .stream()
+            .map(this.eventMapper::toDto)
+            .map(this.gameArchiveService::withArchivedGames)
+            .toList()
+    );
+
+    return EventPage.of(events, eventQuery);
+  }
+
   @WithSpan("EventService.deleteEvent")
   @Transactional
   public void deleteEvent(@Valid @NotNull @SpanAttribute("arg.eventId") Long eventId) {
     Log.infof("Deleting event with id: %s", eventId);
-    this.eventRepository.deleteById(eventId);
+
+    // The games go with the event through the foreign key's cascade, the then empty partition is dropped once this
+    // transaction has committed (see onEventRemoved)
+    this.eventRepository.delete("id", eventId);
+    this.readRouter.recordWrite(ReadRouter.EVENTS_KEY);
+    this.readRouter.recordWrite(ReadRouter.eventKey(eventId));
+    this.eventRemoved.fire(new EventRemoved(eventId));
+  }
+
+  /**
+   * Drops the deleted event's partition. Only after the deletion has committed, so an event whose deletion fails keeps
+   * its games. The DDL locks the whole games table, so it gets a short transaction of its own.
+   */
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) EventRemoved eventRemoved) {
+    QuarkusTransaction.requiringNew().run(() -> this.gameRepository.dropPartitionForEvent(eventRemoved.eventId()));
   }
 
   @WithSpan("EventService.addEvent")
@@ -67,13 +127,20 @@ public class EventService {
     Log.infof("Adding event: %s", eventDto);
     var event = (eventDto.id() == null) ?
         eventDto :
-        new EventDto(null, eventDto.eventDate(), eventDto.name(), eventDto.description());
+        new EventDto(eventDto.eventDate(), eventDto.name(), eventDto.description(), eventDto.timeZone());
 
     // There shouldn't be any games in the event DTO when creating an event
     event.games().clear();
 
     var eventEntity = this.eventMapper.toEntity(event);
     this.eventRepository.persist(eventEntity);
+
+    // Creating the partition locks the whole games table, so it gets a short transaction of its own.
+    // Should this transaction roll back the partition is left empty, for an event id that will never be handed out again.
+    var eventId = eventEntity.getId();
+    QuarkusTransaction.requiringNew().run(() -> this.gameRepository.createPartitionForEvent(eventId));
+    this.readRouter.recordWrite(ReadRouter.EVENTS_KEY);
+
     return this.eventMapper.toDto(eventEntity);
   }
 }
@@ -0,0 +1,59 @@
+package io.quarkus.gamemanager.event.service;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
+import io.quarkus.gamemanager.event.domain.EventDto;
+import io.quarkus.gamemanager.event.domain.EventPage;
+import io.quarkus.gamemanager.event.domain.EventQuery;
+import io.quarkus.gamemanager.event.repository.ReactiveEventRepository;
+import io.quarkus.logging.Log;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Serves the events API without blocking: everything runs on the event loop over the reactive client's small
+ * connection pool, so many concurrent API clients don't each need a thread and a JDBC connection.
+ */
+@ApplicationScoped
+public class ReactiveEventService {
+  private final ReactiveEventRepository reactiveEventRepository;
+  private final GameArchiveService gameArchiveService;
+  private final BlockingOperations blockingOperations;
+
+  public ReactiveEventService(ReactiveEventRepository reactiveEventRepository, GameArchiveService gameArchiveService, BlockingOperations blockingOperations) {
+    this.reactiveEventRepository = reactiveEventRepository;
+    this.gameArchiveService = gameArchiveService;
+    this.blockingOperations = blockingOperations;
+  }
+
+  /**
+   * Same as {@link EventService#getEventPage(EventQuery)}
+   */
+  @WithSpan("ReactiveEventService.getEventPage")
+  public Uni<EventPage> getEventPage(@SpanAttribute("arg.query") EventQuery eventQuery) {
+    Log.infof("Getting page of events reactively with query: %s", eventQuery);
+
+    return this.reactiveEventRepository.getEventPage(eventQuery, eventQuery.getPageSize() + 1)
+        .flatMap(this::withArchivedGames)
+        .map(events -> EventPage.of(events, eventQuery));
+  }
+
+  // Archived events' games are read from their archive files, which is left to a virtual thread
+  private Uni<List<EventDto>> withArchivedGames(List<EventDto> events) {
+    if (events.stream().noneMatch(event -> this.gameArchiveService.isArchived(event.id()))) {
+      return Uni.createFrom().item(events);
+    }
+
+    return this.blockingOperations.call(() ->
+        events.stream()
+            .map(this.gameArchiveService::withArchivedGames)
+            .toList()
+    );
+  }
+}
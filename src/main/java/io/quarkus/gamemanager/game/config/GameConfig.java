@@ -2,6 +2,9 @@ package io.quarkus.gamemanager.game.config;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -29,13 +32,73 @@ public interface GameConfig {
   @WithDefault("8088")
   int appHttpPort();
 
-  @WithDefault("./mvnw clean quarkus:dev -Dquarkus.http.port=${game-manager.game.app-http-port} -Dquarkus.http.test-port=0 -Dquarkus.test.continuous-testing=enabled -Dquarkus.live-reload.instrumentation=true")
+  // The station's http port is appended as -Dquarkus.http.port when the command is launched.
+  // There is no clean so that compiled output restored from the build cache is reused.
+  @WithDefault("./mvnw quarkus:dev -Dquarkus.http.test-port=0 -Dquarkus.test.continuous-testing=enabled -Dquarkus.live-reload.instrumentation=true")
   String appStartupCommand();
 
   @WithDefault("${quarkus.rest-client.game.uri}/q/dev-ui")
   URL appDevUiUrl();
 
+  /**
+   * How many of the most recent game setups are kept in memory for the setup timeline view
+   */
+  @WithDefault("50")
+  int setupHistorySize();
+
+  /**
+   * Named game stations. If none are configured a single station named {@code default} is created
+   * from {@link #checkoutDir()} and {@link #appHttpPort()}.
+   */
+  Map<String, StationConfig> stations();
+
+  BuildCacheConfig buildCache();
+
   default String repoUrl() {
     return "%s/%s.git".formatted(gitRootUrl(), repo());
   }
+
+  interface StationConfig {
+    /**
+     * Defaults to {@code <root-checkout-dir>/<repo-dir-name>-<station name>}
+     */
+    Optional<Path> checkoutDir();
+
+    @WithDefault("localhost")
+    String host();
+
+    int appHttpPort();
+  }
+
+  interface BuildCacheConfig {
+    @WithDefault("true")
+    boolean enabled();
+
+    @WithDefault("${game-manager.game.root-checkout-dir}/build-cache")
+    Path dir();
+
+    /**
+     * Run once per template revision to resolve dependencies into the local repository and compile the game
+     */
+    @WithDefault("./mvnw -B dependency:go-offline test-compile")
+    String prepareCommand();
+
+    @WithDefault("10m")
+    Duration prepareTimeout();
+
+    /**
+     * Checkout of the game template that builds are prepared in, ahead of any game. No player ever uses it.
+     */
+    @WithDefault("${game-manager.game.root-checkout-dir}/${game-manager.game.repo-dir-name}-build-cache")
+    Path checkoutDir();
+
+    /**
+     * Whether the build of the current template revision is prepared when the game manager starts
+     */
+    @WithDefault("true")
+    boolean prepareOnStartup();
+
+    @WithDefault("3")
+    int maxEntries();
+  }
 }
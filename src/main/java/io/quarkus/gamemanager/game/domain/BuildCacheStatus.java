@@ -0,0 +1,8 @@
+package io.quarkus.gamemanager.game.domain;
+
+public enum BuildCacheStatus {
+  DISABLED,
+  HIT,
+  MISS,
+  FAILED
+}
@@ -0,0 +1,35 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.util.Locale;
+
+import jakarta.ws.rs.BadRequestException;
+
+public enum ExportFormat {
+  CSV("text/csv", "csv"),
+  NDJSON("application/x-ndjson", "ndjson");
+
+  private final String mediaType;
+  private final String extension;
+
+  ExportFormat(String mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static ExportFormat fromString(String format) {
+    try {
+      return valueOf(format.strip().toUpperCase(Locale.ROOT));
+    }
+    catch (IllegalArgumentException e) {
+      throw new BadRequestException("Unknown export format: %s".formatted(format), e);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Server-side stopwatch for a game. Timing is based on the monotonic {@link System#nanoTime()} so wall clock
+ * adjustments don't affect a score, and the result is truncated to milliseconds, which is what gets persisted.
+ */
+public final class GameClock {
+  private static final long NOT_STOPPED = Long.MIN_VALUE;
+
+  private final LongSupplier nanoTime;
+  private final Instant startedAt = Instant.now();
+  private final long startNanos;
+  private final AtomicLong stopNanos = new AtomicLong(NOT_STOPPED);
+
+  GameClock(LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+    this.startNanos = nanoTime.getAsLong();
+  }
+
+  public static GameClock start() {
+    return new GameClock(System::nanoTime);
+  }
+
+  public Instant getStartedAt() {
+    return this.startedAt;
+  }
+
+  /**
+   * Time elapsed so far, or the final time if the clock has been stopped
+   */
+  public Duration elapsed() {
+    var stop = this.stopNanos.get();
+    return toMillis((stop == NOT_STOPPED) ? this.nanoTime.getAsLong() : stop);
+  }
+
+  /**
+   * Stops the clock and returns the final time. Only the first call stops the clock, later calls return the same time.
+   */
+  public Duration stop() {
+    this.stopNanos.compareAndSet(NOT_STOPPED, this.nanoTime.getAsLong());
+    return elapsed();
+  }
+
+  public boolean isStopped() {
+    return this.stopNanos.get() != NOT_STOPPED;
+  }
+
+  public Optional<Duration> getFinalTime() {
+    return isStopped() ? Optional.of(elapsed()) : Optional.empty();
+  }
+
+  private Duration toMillis(long nanos) {
+    return Duration.ofNanos(nanos - this.startNanos).truncatedTo(ChronoUnit.MILLIS);
+  }
+}
@@ -0,0 +1,14 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.util.List;
+
+/**
+ * One page of games
+ *
+ * @param total The number of games across all pages
+ */
+public record GamePage<T>(
+    List<T> games,
+    long total
+) {
+}
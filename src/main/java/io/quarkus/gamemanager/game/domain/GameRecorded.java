@@ -0,0 +1,11 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Fired when a game is saved. Observers interested only in committed games observe it
+ * {@code during = TransactionPhase.AFTER_SUCCESS}. {@code gameDay} is the day the game was played on in the event's
+ * time zone.
+ */
+public record GameRecorded(GameDto game, String eventName, LocalDate gameDay) {
+}
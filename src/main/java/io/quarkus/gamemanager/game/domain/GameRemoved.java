@@ -0,0 +1,7 @@
+package io.quarkus.gamemanager.game.domain;
+
+/**
+ * Fired when a game is deleted
+ */
+public record GameRemoved(GameDto game) {
+}
@@ -0,0 +1,11 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.time.Duration;
+
+public record PhaseStatistics(
+    SetupPhase phase,
+    long count,
+    Duration p50,
+    Duration p95
+) {
+}
@@ -0,0 +1,14 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.time.Duration;
+
+public record PhaseTiming(
+    SetupPhase phase,
+    Duration offset,
+    Duration duration,
+    boolean successful
+) {
+  public Duration end() {
+    return this.offset.plus(this.duration);
+  }
+}
@@ -0,0 +1,10 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.time.Duration;
+
+public record PlayerStats(
+    PlayerDto player,
+    long attempts,
+    Duration personalBest
+) {
+}
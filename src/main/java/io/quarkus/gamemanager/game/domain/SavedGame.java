@@ -0,0 +1,10 @@
+package io.quarkus.gamemanager.game.domain;
+
+/**
+ * @param newBestTime Whether the game is now the fastest of its event
+ */
+public record SavedGame(
+    GameDto game,
+    boolean newBestTime
+) {
+}
@@ -0,0 +1,23 @@
+package io.quarkus.gamemanager.game.domain;
+
+public enum SetupPhase {
+  ALLOCATE_STATION("Allocate station"),
+  CLONE("Clone"),
+  FETCH("Fetch"),
+  RESET("Reset"),
+  REWRITE_FILES("Rewrite files"),
+  BUILD_CACHE("Build cache"),
+  IDE_LAUNCH("IDE launch"),
+  MCP_WAIT("MCP wait"),
+  HEALTH_WAIT("Health wait");
+
+  private final String label;
+
+  SetupPhase(String label) {
+    this.label = label;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+}
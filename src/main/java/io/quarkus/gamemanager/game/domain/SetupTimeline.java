@@ -0,0 +1,40 @@
+package io.quarkus.gamemanager.game.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public record SetupTimeline(
+    String station,
+    String player,
+    Instant startedAt,
+    Duration total,
+    boolean successful,
+    List<PhaseTiming> phases,
+    List<PhaseTiming> criticalPath
+) {
+  public Optional<PhaseTiming> getPhase(SetupPhase phase) {
+    return this.phases.stream()
+        .filter(timing -> timing.phase() == phase)
+        .findFirst();
+  }
+
+  public boolean isOnCriticalPath(PhaseTiming phase) {
+    return this.criticalPath.contains(phase);
+  }
+
+  /**
+   * How much wall-clock time running phases concurrently saved compared to running them one after the other
+   */
+  public Duration concurrencySavings() {
+    var sequential = this.phases.stream()
+        .map(PhaseTiming::duration)
+        .reduce(Duration.ZERO, Duration::plus);
+    var criticalPathTotal = this.criticalPath.stream()
+        .map(PhaseTiming::duration)
+        .reduce(Duration.ZERO, Duration::plus);
+
+    return sequential.minus(criticalPathTotal);
+  }
+}
@@ -0,0 +1,22 @@
+package io.quarkus.gamemanager.game.domain.jpa;
+
+import java.time.Duration;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link Duration} as a {@code bigint} number of milliseconds. Anything below a millisecond is dropped.
+ */
+@Converter
+public class DurationToMillisConverter implements AttributeConverter<Duration, Long> {
+  @Override
+  public Long convertToDatabaseColumn(Duration duration) {
+    return (duration != null) ? duration.toMillis() : null;
+  }
+
+  @Override
+  public Duration convertToEntityAttribute(Long millis) {
+    return (millis != null) ? Duration.ofMillis(millis) : null;
+  }
+}
@@ -2,10 +2,13 @@ package io.quarkus.gamemanager.game.domain.jpa;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
-import jakarta.persistence.Embedded;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -19,6 +22,7 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.SourceType;
 
 import io.quarkus.gamemanager.event.domain.jpa.Event;
@@ -27,7 +31,11 @@ import io.quarkus.gamemanager.event.domain.jpa.Event;
 @Table(
     name = "games",
     indexes = {
-        @Index(name = "idx_game_game_date", columnList = "game_date")
+        @Index(name = "idx_game_game_date", columnList = "game_date"),
+        @Index(name = "idx_game_event_game_day", columnList = "event_id, game_day"),
+        @Index(name = "idx_game_event_time_ms_id", columnList = "event_id, time_ms, id"),
+        @Index(name = "idx_game_player_time_ms", columnList = "player_id, time_ms"),
+        @Index(name = "idx_game_time_ms_id", columnList = "time_ms, id")
     }
 )
 public class Game {
@@ -36,7 +44,8 @@ public class Game {
 	@SequenceGenerator(name = "games_seq", allocationSize = 1, sequenceName = "games_seq")
   private Long id;
 
-  @Embedded
+  @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+  @JoinColumn(name = "player_id", nullable = false)
   private Player player;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -47,8 +56,16 @@ public class Game {
 	@Column(updatable = false, nullable = false)
 	private Instant gameDate;
 
+  /**
+   * The day the game was played on in its event's time zone. Set by the database when the game is inserted.
+   */
+  @Generated
+  @Column(insertable = false, updatable = false)
+  private LocalDate gameDay;
+
   @NotNull(message = "Time to complete is required")
-  @Column(nullable = false)
+  @Column(name = "time_ms", nullable = false)
+  @Convert(converter = DurationToMillisConverter.class)
   private Duration timeToComplete;
 
   public Long getId() {
@@ -103,6 +120,10 @@ public class Game {
     return this;
   }
 
+  public LocalDate getGameDay() {
+    return gameDay;
+  }
+
   public Duration getTimeToComplete() {
     return timeToComplete;
   }
@@ -111,8 +132,12 @@ public class Game {
     withTimeToComplete(timeToComplete);
   }
 
+  /**
+   * Stored to the millisecond, so it is truncated to the millisecond right away. That way the time in hand is the time
+   * that will be read back.
+   */
   public Game withTimeToComplete(Duration timeToComplete) {
-    this.timeToComplete = timeToComplete;
+    this.timeToComplete = (timeToComplete != null) ? timeToComplete.truncatedTo(ChronoUnit.MILLIS) : null;
     return this;
   }
 
@@ -120,6 +145,7 @@ public class Game {
   public String toString() {
     return "Game{" +
         "gameDate=" + getGameDate() +
+        ", gameDay=" + getGameDay() +
         ", id=" + getId() +
         ", player=" + getPlayer() +
         ", eventId=" + getEvent().getId() +
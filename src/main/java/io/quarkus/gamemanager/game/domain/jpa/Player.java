@@ -1,20 +1,142 @@
 package io.quarkus.gamemanager.game.domain.jpa;
 
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
 import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 
-@Embeddable
-public record Player(
-    @NotEmpty(message = "First name is required")
-    @Column(nullable = false)
-    String firstName,
+/**
+ * A person who played one or more games, identified by their normalised email address
+ */
+@Entity
+@Table(name = "players")
+public class Player {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+  @SequenceGenerator(name = "players_seq", allocationSize = 1, sequenceName = "players_seq")
+  private Long id;
+
+  @NotEmpty(message = "First name is required")
+  @Column(nullable = false)
+  private String firstName;
+
+  @NotEmpty(message = "Last name is required")
+  @Column(nullable = false)
+  private String lastName;
+
+  @Email(message = "Invalid email address")
+  @Column(unique = true)
+  private String email;
+
+  public Player() {
+  }
+
+  public Player(String firstName, String lastName, String email) {
+    withFirstName(firstName)
+        .withLastName(lastName)
+        .withEmail(email);
+  }
+
+  /**
+   * Trimmed and lower cased, so {@code " Jane@Doe.com"} and {@code "jane@doe.com"} are the same player. Blank emails
+   * become {@code null}.
+   */
+  public static String normalizeEmail(String email) {
+    return Optional.ofNullable(email)
+        .map(String::strip)
+        .filter(e -> !e.isEmpty())
+        .map(e -> e.toLowerCase(Locale.ROOT))
+        .orElse(null);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    withId(id);
+  }
+
+  public Player withId(Long id) {
+    this.id = id;
+    return this;
+  }
+
+  public String getFirstName() {
+    return firstName;
+  }
+
+  public void setFirstName(String firstName) {
+    withFirstName(firstName);
+  }
+
+  public Player withFirstName(String firstName) {
+    this.firstName = firstName;
+    return this;
+  }
+
+  public String getLastName() {
+    return lastName;
+  }
+
+  public void setLastName(String lastName) {
+    withLastName(lastName);
+  }
+
+  public Player withLastName(String lastName) {
+    this.lastName = lastName;
+    return this;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    withEmail(email);
+  }
+
+  public Player withEmail(String email) {
+    this.email = normalizeEmail(email);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "Player{" +
+        "id=" + getId() +
+        ", firstName='" + getFirstName() + '\'' +
+        ", lastName='" + getLastName() + '\'' +
+        ", email='" + getEmail() + '\'' +
+        '}';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    // Players that haven't been saved yet are all different people
+    if (!(o instanceof Player player) || (id == null)) {
+      return false;
+    }
 
-    @NotEmpty(message = "Last name is required")
-    @Column(nullable = false)
-    String lastName,
+    return Objects.equals(id, player.id);
+  }
 
-    @Email(message = "Invalid email address")
-    String email
-) { }
+  @Override
+  public int hashCode() {
+    // Not based on the id, so it doesn't change when the player is saved
+    return getClass().hashCode();
+  }
+}
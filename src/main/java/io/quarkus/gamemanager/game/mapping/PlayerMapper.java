@@ -2,6 +2,7 @@ package io.quarkus.gamemanager.game.mapping;
 
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants.ComponentModel;
 
 import io.quarkus.gamemanager.game.domain.PlayerDto;
@@ -11,6 +12,8 @@ import io.quarkus.gamemanager.game.domain.jpa.Player;
 public interface PlayerMapper {
   PlayerDto toDto(Player player);
 
+  // Players are looked up by email when a game is saved, so the id is never taken from the DTO
   @InheritInverseConfiguration
+  @Mapping(target = "id", ignore = true)
   Player toEntity(PlayerDto playerDto);
 }
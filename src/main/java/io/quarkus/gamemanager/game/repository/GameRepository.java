@@ -1,47 +1,250 @@
 package io.quarkus.gamemanager.game.repository;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.GamePage;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
 import io.quarkus.gamemanager.game.domain.jpa.Game;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
-import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.Sort.Direction;
 
 @ApplicationScoped
 public class GameRepository implements PanacheRepository<Game> {
-  private static final String EVENT_GAME_DATE_CLAUSE = "WHERE event.id = :eventId AND gameDate >= :startOfDay AND gameDate < :endOfDay";
+  private static final int GAME_DTO_COLUMNS = 7;
+  private static final String EVENT_CLAUSE = "WHERE g.event.id = :eventId";
+  // Days are the event's local days, stored in game_day when the game is inserted, so filtering on one is a range scan
+  // of the (event_id, game_day) index
+  private static final String EVENT_GAME_DATE_CLAUSE = EVENT_CLAUSE + " AND g.gameDay = :gameDay";
+
+  /**
+   * Creates the partition holding the games of the event. Has to be called before any game is added to the event,
+   * otherwise they end up in the default partition.
+   */
+  public void createPartitionForEvent(long eventId) {
+    getEntityManager()
+        .createNativeQuery("CREATE TABLE IF NOT EXISTS %s PARTITION OF games FOR VALUES IN (%d)".formatted(partitionName(eventId), eventId))
+        .executeUpdate();
+  }
+
+  /**
+   * Drops the event's partition and with it all of the event's games, without touching them row by row
+   */
+  public void dropPartitionForEvent(long eventId) {
+    getEntityManager()
+        .createNativeQuery("DROP TABLE IF EXISTS %s".formatted(partitionName(eventId)))
+        .executeUpdate();
+  }
 
-  private static Parameters createGameDateParameters(LocalDate gameDate) {
-    return Parameters.with("startOfDay", gameDate.atStartOfDay(ZoneId.systemDefault()).toInstant())
-        .and("endOfDay", gameDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+  static String partitionName(long eventId) {
+    return "games_event_%d".formatted(eventId);
   }
 
   public List<Game> getGamesForEvent(Long eventId, Sort sort, Optional<LocalDate> gameDateFilter) {
-    return gameDateFilter
-        .map(filter -> list(EVENT_GAME_DATE_CLAUSE, sort, createGameDateParameters(filter).and("eventId", eventId)))
-        .orElseGet(() -> list("event.id", sort, eventId));
+    return getGamesForEvent(getEntityManager(), eventId, sort, gameDateFilter);
   }
 
   public long countGamesForEvent(Long eventId, Optional<LocalDate> gameDateFilter) {
-    return gameDateFilter
-        .map(filter -> count(EVENT_GAME_DATE_CLAUSE, createGameDateParameters(filter).and("eventId", eventId)))
-        .orElseGet(() -> count("event.id", eventId));
+    return countGamesForEvent(getEntityManager(), eventId, gameDateFilter);
   }
 
   public long countGameDatesForEvent(Long eventId) {
-    return find("SELECT COUNT(DISTINCT DATE(g.gameDate)) FROM Game g WHERE g.event.id = ?1", eventId)
-        .project(Long.class)
-        .firstResult();
+    return countGameDatesForEvent(getEntityManager(), eventId);
   }
 
   public List<LocalDate> getGameDatesOrderedChronologically(Long eventId) {
-    return find("SELECT DISTINCT DATE(g.gameDate) FROM Game g WHERE g.event.id = ?1 ORDER BY DATE(g.gameDate)", eventId)
-        .project(LocalDate.class)
-        .list();
+    return getGameDatesOrderedChronologically(getEntityManager(), eventId);
+  }
+
+  public long countGamesForPlayer(Long playerId) {
+    return count("player.id", playerId);
+  }
+
+  /**
+   * The player's fastest game across all events, read off the {@code (player_id, time_ms)} index
+   */
+  public Optional<Game> findPersonalBest(Long playerId) {
+    return find("player.id", Sort.by("timeToComplete"), playerId).firstResultOptional();
+  }
+
+  /**
+   * The event's fastest game, read off the {@code (event_id, time_ms, id)} index
+   */
+  public Optional<Game> findFastestGameForEvent(Long eventId) {
+    return find("event.id", Sort.by("timeToComplete").and("id"), eventId).firstResultOptional();
+  }
+
+  /**
+   * The {@code limit} fastest games played in {@code [from, until)}, fastest first, read off the
+   * {@code (time_ms, id)} index
+   */
+  public List<Game> getFastestGames(Optional<Instant> from, Optional<Instant> until, int limit) {
+    var hql = new StringBuilder("FROM Game g JOIN FETCH g.player JOIN FETCH g.event WHERE 1 = 1");
+    from.ifPresent(_ -> hql.append(" AND g.gameDate >= :from"));
+    until.ifPresent(_ -> hql.append(" AND g.gameDate < :until"));
+    hql.append(" ORDER BY g.timeToComplete, g.id");
+
+    var query = getEntityManager().createQuery(hql.toString(), Game.class)
+        .setMaxResults(limit);
+
+    from.ifPresent(f -> query.setParameter("from", f));
+    until.ifPresent(u -> query.setParameter("until", u));
+
+    return query.getResultList();
+  }
+
+  /**
+   * The day and completion time of every game of the event, streamed so large events aren't held in memory
+   */
+  public Stream<Object[]> streamCompletionTimesForEvent(Long eventId) {
+    return getEntityManager().createQuery("SELECT g.gameDay, g.timeToComplete FROM Game g WHERE g.event.id = :eventId", Object[].class)
+        .setParameter("eventId", eventId)
+        .getResultStream();
+  }
+
+  public Optional<Instant> findEarliestGameDate() {
+    return Optional.ofNullable(getEntityManager().createQuery("SELECT MIN(g.gameDate) FROM Game g", Instant.class).getSingleResult());
+  }
+
+  public Optional<Instant> findLatestGameDate() {
+    return Optional.ofNullable(getEntityManager().createQuery("SELECT MAX(g.gameDate) FROM Game g", Instant.class).getSingleResult());
+  }
+
+  // The variants below run on whichever EntityManager they are given, so they can be pointed at the read replica.
+  // Panache's own query methods are always bound to the primary.
+
+  public List<Game> getGamesForEvent(EntityManager entityManager, Long eventId, Sort sort, Optional<LocalDate> gameDateFilter) {
+    var query = entityManager.createQuery("FROM Game g JOIN FETCH g.player %s%s".formatted(eventGameClause(gameDateFilter), orderBy(sort)), Game.class);
+    setEventGameParameters(query, eventId, gameDateFilter);
+
+    return query.getResultList();
+  }
+
+  /**
+   * The event's games projected straight into DTOs, without loading (and snapshotting) any entities
+   */
+  public List<GameDto> getGameDtosForEvent(EntityManager entityManager, Long eventId, Sort sort, Optional<LocalDate> gameDateFilter) {
+    var query = createGameDtoQuery(entityManager, "", eventId, sort, gameDateFilter);
+
+    return query.getResultList()
+        .stream()
+        .map(GameRepository::toGameDto)
+        .toList();
+  }
+
+  /**
+   * One page of the event's games, projected into DTOs, together with the total number of games matching the filter,
+   * counted by a window function in the same query. Only when the page is empty (i.e. past the end) is the total
+   * counted separately.
+   */
+  public GamePage<GameDto> getGamePageForEvent(EntityManager entityManager, Long eventId, Sort sort, Optional<LocalDate> gameDateFilter, int offset, int limit) {
+    var query = createGameDtoQuery(entityManager, ", COUNT(*) OVER ()", eventId, sort, gameDateFilter)
+        .setFirstResult(offset)
+        .setMaxResults(limit);
+
+    var rows = query.getResultList();
+    var games = rows.stream()
+        .map(GameRepository::toGameDto)
+        .toList();
+    var total = rows.isEmpty() ?
+        countGamesForEvent(entityManager, eventId, gameDateFilter) :
+        ((Number) rows.getFirst()[GAME_DTO_COLUMNS]).longValue();
+
+    return new GamePage<>(games, total);
+  }
+
+  private static TypedQuery<Object[]> createGameDtoQuery(EntityManager entityManager, String extraColumns, Long eventId, Sort sort, Optional<LocalDate> gameDateFilter) {
+    var hql = "SELECT g.id, p.firstName, p.lastName, p.email, g.event.id, g.gameDate, g.timeToComplete%s FROM Game g JOIN g.player p %s%s"
+        .formatted(extraColumns, eventGameClause(gameDateFilter), orderBy(sort));
+
+    var query = entityManager.createQuery(hql, Object[].class)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    setEventGameParameters(query, eventId, gameDateFilter);
+
+    return query;
+  }
+
+  private static GameDto toGameDto(Object[] row) {
+    return new GameDto(
+        (Long) row[0],
+        new PlayerDto((String) row[1], (String) row[2], (String) row[3]),
+        (Long) row[4],
+        (Instant) row[5],
+        (Duration) row[6]
+    );
+  }
+
+  public long countGamesForEvent(EntityManager entityManager, Long eventId, Optional<LocalDate> gameDateFilter) {
+    var query = entityManager.createQuery("SELECT COUNT(*) FROM Game g %s".formatted(eventGameClause(gameDateFilter)), Long.class);
+    setEventGameParameters(query, eventId, gameDateFilter);
+
+    return query.getSingleResult();
+  }
+
+  /**
+   * How many of the event's games (optionally only those played on {@code gameDateFilter}) took longer than
+   * {@code timeToComplete}, counted off the {@code (event_id, time_ms, id)} index
+   */
+  public long countGamesSlowerThan(Long eventId, Optional<LocalDate> gameDateFilter, Duration timeToComplete) {
+    var query = getEntityManager().createQuery("SELECT COUNT(*) FROM Game g %s AND g.timeToComplete > :timeToComplete".formatted(eventGameClause(gameDateFilter)), Long.class)
+        .setParameter("timeToComplete", timeToComplete);
+    setEventGameParameters(query, eventId, gameDateFilter);
+
+    return query.getSingleResult();
+  }
+
+  public long countGameDatesForEvent(EntityManager entityManager, Long eventId) {
+    return entityManager.createQuery("SELECT COUNT(DISTINCT g.gameDay) FROM Game g WHERE g.event.id = :eventId", Long.class)
+        .setParameter("eventId", eventId)
+        .getSingleResult();
+  }
+
+  public List<LocalDate> getGameDatesOrderedChronologically(EntityManager entityManager, Long eventId) {
+    return entityManager.createQuery("SELECT DISTINCT g.gameDay FROM Game g WHERE g.event.id = :eventId ORDER BY g.gameDay", LocalDate.class)
+        .setParameter("eventId", eventId)
+        .getResultList();
+  }
+
+  private static String eventGameClause(Optional<LocalDate> gameDateFilter) {
+    return gameDateFilter.isPresent() ? EVENT_GAME_DATE_CLAUSE : EVENT_CLAUSE;
+  }
+
+  private static void setEventGameParameters(Query query, Long eventId, Optional<LocalDate> gameDateFilter) {
+    query.setParameter("eventId", eventId);
+    gameDateFilter.ifPresent(gameDay -> query.setParameter("gameDay", gameDay));
+  }
+
+  // The id comes last, so games that tie on every other column (e.g. the same time) still come back in the same order
+  // and pages neither repeat nor skip any of them
+  private static String orderBy(Sort sort) {
+    var columns = Optional.ofNullable(sort)
+        .map(Sort::getColumns)
+        .orElseGet(List::of);
+
+    var tiebreaker = columns.stream().anyMatch(column -> "id".equals(column.getName())) ?
+                     Stream.<String>empty() :
+                     Stream.of("g.id ASC");
+
+    return Stream.concat(
+            columns.stream().map(column -> "g.%s %s".formatted(column.getName(), (column.getDirection() == Direction.Descending) ? "DESC" : "ASC")),
+            tiebreaker
+        )
+        .collect(Collectors.joining(", ", " ORDER BY ", ""));
   }
 }
@@ -0,0 +1,45 @@
+package io.quarkus.gamemanager.game.repository;
+
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.game.domain.jpa.Player;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+
+@ApplicationScoped
+public class PlayerRepository implements PanacheRepository<Player> {
+  // Matches the unique index on the normalised email
+  public Optional<Player> findByEmail(String email) {
+    return Optional.ofNullable(Player.normalizeEmail(email))
+        .flatMap(normalizedEmail -> find("email", normalizedEmail).firstResultOptional());
+  }
+
+  /**
+   * Inserts {@code player}, or renames the player who already has its email, in one statement so two first games
+   * with the same email can't both try to insert a player. A player without an email is never the same as anyone
+   * else, so it is returned as is and persisted along with its game.
+   */
+  public Player upsertByEmail(Player player) {
+    if (player.getEmail() == null) {
+      return player;
+    }
+
+    var id = (Long) getEntityManager()
+        .createNativeQuery("""
+            INSERT INTO players (id, email, first_name, last_name)
+            VALUES (nextval('players_seq'), :email, :firstName, :lastName)
+            ON CONFLICT (email) DO UPDATE
+              SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name
+            RETURNING id""", Long.class)
+        .setParameter("email", player.getEmail())
+        .setParameter("firstName", player.getFirstName())
+        .setParameter("lastName", player.getLastName())
+        .getSingleResult();
+
+    // The player may already be loaded from before the upsert, so give it the names that were just written
+    return findById(id)
+        .withFirstName(player.getFirstName())
+        .withLastName(player.getLastName());
+  }
+}
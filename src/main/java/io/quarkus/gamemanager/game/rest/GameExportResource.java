@@ -0,0 +1,71 @@
+package io.quarkus.gamemanager.game.rest;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestQuery;
+
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.event.service.EventService;
+import io.quarkus.gamemanager.game.domain.ExportFormat;
+import io.quarkus.gamemanager.game.service.GameExportService;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+@Path("/events/{eventId}/games/export")
+@RunOnVirtualThread
+public class GameExportResource {
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final GameExportService gameExportService;
+  private final EventService eventService;
+  private final GameArchiveService gameArchiveService;
+
+  public GameExportResource(GameExportService gameExportService, EventService eventService, GameArchiveService gameArchiveService) {
+    this.gameExportService = gameExportService;
+    this.eventService = eventService;
+    this.gameArchiveService = gameArchiveService;
+  }
+
+  /**
+   * The event's games, fastest first, as CSV ({@code format=csv}, the default) or newline delimited JSON
+   * ({@code format=ndjson}), optionally only those played on {@code day}. Streamed gzip compressed as the database
+   * produces them. An archived event's games are no longer in the database, so it can't be exported.
+   */
+  @GET
+  public Response exportGames(@RestPath long eventId, @RestQuery ExportFormat format, @RestQuery LocalDate day) {
+    // Checked up front, since once the response is streaming it can only be cut short, not turned into an error
+    if (this.eventService.findEventName(eventId).isEmpty()) {
+      throw new NotFoundException("Event %d can not be found".formatted(eventId));
+    }
+
+    if (this.gameArchiveService.isArchived(eventId)) {
+      throw new ClientErrorException("Event %d is archived, its games can only be read from GET /events/%d".formatted(eventId, eventId), Status.CONFLICT);
+    }
+
+    var exportFormat = Optional.ofNullable(format).orElse(ExportFormat.CSV);
+    var filename = "event-%d-games%s.%s".formatted(eventId, Optional.ofNullable(day).map("-%s"::formatted).orElse(""), exportFormat.getExtension());
+
+    StreamingOutput body = out -> {
+      var gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+      this.gameExportService.exportGamesForEvent(eventId, Optional.ofNullable(day), exportFormat, gzip);
+      gzip.finish();
+    };
+
+    return Response.ok(body, exportFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+        .header("Content-Disposition", "attachment; filename=\"%s\"".formatted(filename))
+        .build();
+  }
+}
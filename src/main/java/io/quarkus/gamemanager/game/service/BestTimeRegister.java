@@ -0,0 +1,106 @@
+package io.quarkus.gamemanager.game.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.gamemanager.game.domain.GameRemoved;
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.repository.GameRepository;
+import io.quarkus.logging.Log;
+
+/**
+ * The best time of every event, so whether a game is a new record is decided in constant time with a compare-and-set,
+ * whatever any leaderboard happens to be showing. Of two games finishing at the same moment only the faster one (or
+ * the first one, if they tie) is a new record.
+ * <p>
+ * A game is only offered once it is committed, so a game that rolls back never takes the record from one that commits.
+ * An event's best time is loaded from the database the first time it is needed. If the record holder is deleted, the
+ * event's best time is forgotten and reloaded.
+ */
+@ApplicationScoped
+public class BestTimeRegister {
+  private final GameRepository gameRepository;
+  private final Map<Long, AtomicReference<BestTime>> bestTimes = new ConcurrentHashMap<>();
+
+  public BestTimeRegister(GameRepository gameRepository) {
+    this.gameRepository = gameRepository;
+  }
+
+  /**
+   * Loads the event's best time if it isn't known yet. Has to be called before a new game of the event is persisted,
+   * otherwise the new game would be loaded as the best time it is then compared with.
+   */
+  void prepare(Long eventId) {
+    register(eventId);
+  }
+
+  /**
+   * Records the committed game as the event's best time if it is faster than the current one
+   *
+   * @return Whether the game is the event's new best time
+   */
+  boolean offer(Long eventId, Long gameId, Duration timeToComplete) {
+    var register = register(eventId);
+    var candidate = new BestTime(gameId, timeToComplete);
+
+    while (true) {
+      var current = register.get();
+
+      // The event's best time may have been reloaded after the game was committed, and found the game itself
+      if ((current != null) && current.gameId().equals(gameId)) {
+        return true;
+      }
+
+      if ((current != null) && (current.timeToComplete().compareTo(timeToComplete) <= 0)) {
+        return false;
+      }
+
+      if (register.compareAndSet(current, candidate)) {
+        return true;
+      }
+    }
+  }
+
+  public Optional<Duration> getBestTime(Long eventId) {
+    return Optional.ofNullable(register(eventId).get())
+        .map(BestTime::timeToComplete);
+  }
+
+  void onGameRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRemoved gameRemoved) {
+    forgetIfHeldBy(gameRemoved.game().eventId(), gameRemoved.game().id());
+  }
+
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) EventRemoved eventRemoved) {
+    this.bestTimes.remove(eventRemoved.eventId());
+  }
+
+  private void forgetIfHeldBy(Long eventId, Long gameId) {
+    Optional.ofNullable(this.bestTimes.get(eventId))
+        .filter(register -> Optional.ofNullable(register.get()).filter(best -> best.gameId().equals(gameId)).isPresent())
+        .ifPresent(register -> {
+          Log.infof("Best time of event %d was held by game %d, which is gone. Reloading it.", eventId, gameId);
+          this.bestTimes.remove(eventId, register);
+        });
+  }
+
+  private AtomicReference<BestTime> register(Long eventId) {
+    return this.bestTimes.computeIfAbsent(eventId, id ->
+        new AtomicReference<>(
+            this.gameRepository.findFastestGameForEvent(id)
+                .map(game -> new BestTime(game.getId(), game.getTimeToComplete()))
+                .orElse(null)
+        )
+    );
+  }
+
+  private record BestTime(Long gameId, Duration timeToComplete) {
+  }
+}
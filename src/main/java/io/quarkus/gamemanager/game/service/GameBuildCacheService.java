@@ -0,0 +1,267 @@
+package io.quarkus.gamemanager.game.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.game.config.GameConfig;
+import io.quarkus.gamemanager.game.config.GameConfig.BuildCacheConfig;
+import io.quarkus.gamemanager.game.domain.BuildCacheStatus;
+import io.quarkus.logging.Log;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
+/**
+ * Keeps the compiled {@code target/} output of the game keyed by a hash of its sources so that dev mode
+ * only has to compile what the player changes.
+ */
+@ApplicationScoped
+public class GameBuildCacheService {
+  private static final String TARGET_DIR = "target";
+  private static final List<String> HASHED_PATHS = List.of("pom.xml", ".mvn", "src");
+
+  private final BuildCacheConfig buildCacheConfig;
+  private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+  public GameBuildCacheService(GameConfig gameConfig) {
+    this.buildCacheConfig = gameConfig.buildCache();
+  }
+
+  /**
+   * Restores the cached build of {@code checkoutDir}'s sources, if there is one. Never prepares a build, so a game setup
+   * never waits on it: without a cached build (or while it is still being prepared) the game starts cold.
+   */
+  @WithSpan("GameBuildCacheService.restore")
+  public BuildCacheStatus restore(@SpanAttribute("arg.checkoutDir") Path checkoutDir) {
+    if (!this.buildCacheConfig.enabled()) {
+      return BuildCacheStatus.DISABLED;
+    }
+
+    try {
+      var sourceHash = hashSources(checkoutDir);
+      var lock = this.locks.computeIfAbsent(sourceHash, _ -> new ReentrantLock());
+
+      // Held for as long as the build is being prepared
+      if (!lock.tryLock()) {
+        Log.infof("Build cache entry [%s] is still being prepared, starting [%s] without it", sourceHash, checkoutDir);
+        return BuildCacheStatus.MISS;
+      }
+
+      try {
+        var cacheEntry = cacheEntry(sourceHash);
+
+        if (!Files.isDirectory(cacheEntry)) {
+          Log.infof("No build cache entry for [%s], starting [%s] without it", sourceHash, checkoutDir);
+          return BuildCacheStatus.MISS;
+        }
+
+        Log.infof("Restoring build cache entry [%s] into [%s]", sourceHash, checkoutDir);
+        replaceDirectory(cacheEntry, checkoutDir.resolve(TARGET_DIR));
+        Files.setLastModifiedTime(cacheEntry, FileTime.from(Instant.now()));
+        return BuildCacheStatus.HIT;
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+    catch (IOException | UncheckedIOException e) {
+      // A broken cache should never stop a game from starting
+      Log.warnf(e, "Unable to use the build cache for [%s]", checkoutDir);
+      return BuildCacheStatus.FAILED;
+    }
+  }
+
+  /**
+   * Prepares the build of {@code checkoutDir}'s sources and stores it, unless it is cached already. Meant to be run
+   * ahead of any game, in a checkout no player uses, since it runs {@link BuildCacheConfig#prepareCommand()} there.
+   */
+  @WithSpan("GameBuildCacheService.prepare")
+  public BuildCacheStatus prepare(@SpanAttribute("arg.checkoutDir") Path checkoutDir) {
+    if (!this.buildCacheConfig.enabled()) {
+      return BuildCacheStatus.DISABLED;
+    }
+
+    try {
+      var sourceHash = hashSources(checkoutDir);
+      var lock = this.locks.computeIfAbsent(sourceHash, _ -> new ReentrantLock());
+      lock.lock();
+
+      try {
+        var cacheEntry = cacheEntry(sourceHash);
+
+        if (Files.isDirectory(cacheEntry)) {
+          Log.infof("Build cache entry [%s] is already prepared", sourceHash);
+          return BuildCacheStatus.HIT;
+        }
+
+        Log.infof("Preparing build cache entry [%s] in [%s]", sourceHash, checkoutDir);
+        return prepare(checkoutDir, cacheEntry) ? BuildCacheStatus.MISS : BuildCacheStatus.FAILED;
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+    catch (IOException | UncheckedIOException e) {
+      Log.warnf(e, "Unable to prepare the build cache in [%s]", checkoutDir);
+      return BuildCacheStatus.FAILED;
+    }
+  }
+
+  private Path cacheEntry(String sourceHash) {
+    return this.buildCacheConfig.dir().normalize().toAbsolutePath().resolve(sourceHash);
+  }
+
+  private boolean prepare(Path checkoutDir, Path cacheEntry) throws IOException {
+    var logFile = Files.createDirectories(cacheEntry.getParent()).resolve("%s.log".formatted(cacheEntry.getFileName()));
+    var process = new ProcessBuilder(this.buildCacheConfig.prepareCommand().split(" "))
+        .directory(checkoutDir.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(Redirect.to(logFile.toFile()))
+        .start();
+
+    try {
+      if (!process.waitFor(this.buildCacheConfig.prepareTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        Log.warnf("Preparing the build in [%s] timed out after %s (see %s)", checkoutDir, this.buildCacheConfig.prepareTimeout(), logFile);
+        process.destroyForcibly();
+        return false;
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      process.destroyForcibly();
+      return false;
+    }
+
+    if (process.exitValue() != 0) {
+      Log.warnf("Preparing the build in [%s] failed with exit code %d (see %s)", checkoutDir, process.exitValue(), logFile);
+      return false;
+    }
+
+    var tempEntry = cacheEntry.resolveSibling("%s.tmp".formatted(cacheEntry.getFileName()));
+    replaceDirectory(checkoutDir.resolve(TARGET_DIR), tempEntry);
+    Files.move(tempEntry, cacheEntry, StandardCopyOption.ATOMIC_MOVE);
+    Log.infof("Stored build cache entry [%s]", cacheEntry);
+
+    pruneOldEntries(cacheEntry.getParent());
+    return true;
+  }
+
+  private void pruneOldEntries(Path cacheDir) throws IOException {
+    try (var entries = Files.list(cacheDir)) {
+      entries.filter(Files::isDirectory)
+          .sorted(Comparator.comparing(GameBuildCacheService::lastModified).reversed())
+          .skip(this.buildCacheConfig.maxEntries())
+          .forEach(entry -> {
+            Log.infof("Pruning build cache entry [%s]", entry);
+            deleteDirectory(entry);
+          });
+    }
+  }
+
+  static String hashSources(Path checkoutDir) throws IOException {
+    var digest = createDigest();
+    var files = HASHED_PATHS.stream()
+        .map(checkoutDir::resolve)
+        .filter(Files::exists)
+        .flatMap(GameBuildCacheService::walk)
+        .filter(Files::isRegularFile)
+        .sorted()
+        .toList();
+
+    for (var file : files) {
+      digest.update(checkoutDir.relativize(file).toString().getBytes());
+      digest.update(Files.readAllBytes(file));
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static Stream<Path> walk(Path path) {
+    try (var paths = Files.walk(path)) {
+      return paths.toList().stream();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void replaceDirectory(Path source, Path target) throws IOException {
+    deleteDirectory(target);
+    copyDirectory(source, target);
+  }
+
+  private static void copyDirectory(Path source, Path target) throws IOException {
+    Files.walkFileTree(source, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        Files.createDirectories(target.resolve(source.relativize(dir)));
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+        // Not copying attributes on purpose: restored classes need to be newer than the checked out sources
+        Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private static void deleteDirectory(Path dir) {
+    if (Files.exists(dir)) {
+      try (var paths = Files.walk(dir)) {
+        paths.sorted(Comparator.reverseOrder())
+            .forEach(path -> {
+              try {
+                Files.delete(path);
+              }
+              catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private static long lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
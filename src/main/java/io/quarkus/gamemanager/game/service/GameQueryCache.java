@@ -0,0 +1,110 @@
+package io.quarkus.gamemanager.game.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.interceptor.Interceptor;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.gamemanager.archive.domain.EventArchived;
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.gamemanager.game.domain.GameRecorded;
+import io.quarkus.gamemanager.game.domain.GameRemoved;
+import io.quarkus.panache.common.Sort;
+
+/**
+ * Results of the leaderboard queries, shared by every viewer of an event. Every event has a version that is part of
+ * the key of each of its results, and that is bumped once a game of the event is committed or deleted, so a change
+ * only ever invalidates the results of its own event. Results of older versions are never read again and are left to
+ * the cache's eviction. Viewers asking for the same result at the same time wait for a single query.
+ * <p>
+ * Versions are bumped before any other observer of a change runs, so whatever those reload is loaded afresh.
+ * <p>
+ * The size of the cache, and whether its hits and misses are recorded, is configured as the {@code game-queries}
+ * cache.
+ */
+@ApplicationScoped
+public class GameQueryCache {
+  static final String CACHE_NAME = "game-queries";
+
+  private final Cache cache;
+  private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  public GameQueryCache(@CacheName(CACHE_NAME) Cache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * The cached result of the event's {@code query}, loaded by {@code loader} if it isn't cached for the event's
+   * current version
+   */
+  <T> T get(String query, Long eventId, Supplier<T> loader) {
+    return get(query, eventId, null, Optional.empty(), 0, 0, loader);
+  }
+
+  <T> T get(String query, Long eventId, Optional<LocalDate> gameDateFilter, Supplier<T> loader) {
+    return get(query, eventId, null, gameDateFilter, 0, 0, loader);
+  }
+
+  <T> T get(String query, Long eventId, Sort sort, Optional<LocalDate> gameDateFilter, int offset, int limit, Supplier<T> loader) {
+    // The version has to be read before the query runs, so a result loaded while a game is being committed is
+    // cached under the old version, which the commit then retires
+    var key = new Key(query, eventId, version(eventId), sortKey(sort), gameDateFilter.orElse(null), offset, limit);
+
+    return this.cache.<Key, T>get(key, _ -> loader.get())
+        .await()
+        .indefinitely();
+  }
+
+  long version(Long eventId) {
+    return this.versions.computeIfAbsent(eventId, _ -> new AtomicLong()).get();
+  }
+
+  void onGameRecorded(@Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(Interceptor.Priority.PLATFORM_BEFORE) GameRecorded gameRecorded) {
+    invalidate(gameRecorded.game().eventId());
+  }
+
+  void onGameRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(Interceptor.Priority.PLATFORM_BEFORE) GameRemoved gameRemoved) {
+    invalidate(gameRemoved.game().eventId());
+  }
+
+  // The games don't change, but from now on they are read from the archive. Only once the archive is registered (at
+  // PLATFORM_BEFORE), otherwise a read in between would cache the dropped partition's empty results under the new
+  // version, which nothing would ever bump again.
+  void onEventArchived(@Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(Interceptor.Priority.PLATFORM_BEFORE + 1) EventArchived eventArchived) {
+    invalidate(eventArchived.archive().eventId());
+  }
+
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(Interceptor.Priority.PLATFORM_BEFORE) EventRemoved eventRemoved) {
+    invalidate(eventRemoved.eventId());
+  }
+
+  void invalidate(Long eventId) {
+    this.versions.computeIfAbsent(eventId, _ -> new AtomicLong()).incrementAndGet();
+  }
+
+  // Sort has no equals of its own
+  private static String sortKey(Sort sort) {
+    if (sort == null) {
+      return "";
+    }
+
+    return sort.getColumns()
+        .stream()
+        .map(column -> "%s %s %s".formatted(column.getName(), column.getDirection(), column.getNullPrecedence()))
+        .collect(Collectors.joining(", "));
+  }
+
+  private record Key(String query, Long eventId, long version, String sort, LocalDate gameDateFilter, int offset, int limit) {
+  }
+}
@@ -9,10 +9,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -23,21 +28,44 @@ import org.eclipse.jgit.api.ResetCommand.ResetType;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.TextProgressMonitor;
 
+import io.quarkus.gamemanager.archive.service.ArchivedGames;
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
+import io.quarkus.gamemanager.concurrent.TimingWheel;
+import io.quarkus.gamemanager.datasource.ReadRouter;
 import io.quarkus.gamemanager.event.domain.jpa.Event;
 import io.quarkus.gamemanager.event.repository.EventRepository;
 import io.quarkus.gamemanager.game.config.GameConfig;
+import io.quarkus.gamemanager.game.domain.BuildCacheStatus;
+import io.quarkus.gamemanager.game.domain.GameClock;
 import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.GamePage;
+import io.quarkus.gamemanager.game.domain.GameRecorded;
+import io.quarkus.gamemanager.game.domain.GameRemoved;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.domain.PlayerStats;
+import io.quarkus.gamemanager.game.domain.SavedGame;
+import io.quarkus.gamemanager.game.domain.SetupPhase;
+import io.quarkus.gamemanager.game.domain.jpa.Player;
 import io.quarkus.gamemanager.game.mapping.GameMapper;
+import io.quarkus.gamemanager.game.mapping.PlayerMapper;
 import io.quarkus.gamemanager.game.repository.GameRepository;
+import io.quarkus.gamemanager.game.repository.PlayerRepository;
+import io.quarkus.gamemanager.game.service.GameSetupTracker.Tracking;
 import io.quarkus.gamemanager.ide.IdeService;
+import io.quarkus.gamemanager.station.domain.Station;
+import io.quarkus.gamemanager.station.service.StationService;
 import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.runtime.StartupEvent;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @ApplicationScoped
 public class GameService {
@@ -52,21 +80,54 @@ public class GameService {
   private final GameConfig gameConfig;
   private final GameRepository gameRepository;
   private final EventRepository eventRepository;
+  private final PlayerRepository playerRepository;
   private final GameMapper gameMapper;
+  private final PlayerMapper playerMapper;
   private final IdeService ideService;
-
-  public GameService(GameConfig gameConfig, GameRepository gameRepository, EventRepository eventRepository, GameMapper gameMapper, IdeService ideService) {
+  private final StationService stationService;
+  private final GameBuildCacheService gameBuildCacheService;
+  private final GameSetupTracker gameSetupTracker;
+  private final BlockingOperations blockingOperations;
+  private final TimingWheel timingWheel;
+  private final ReadRouter readRouter;
+  private final GameArchiveService gameArchiveService;
+  private final GameQueryCache gameQueryCache;
+  private final BestTimeRegister bestTimeRegister;
+  private final jakarta.enterprise.event.Event<GameRecorded> gameRecorded;
+  private final jakarta.enterprise.event.Event<GameRemoved> gameRemoved;
+  private final MeterRegistry meterRegistry;
+  private final AtomicBoolean preparingBuild = new AtomicBoolean();
+
+  public GameService(GameConfig gameConfig, GameRepository gameRepository, EventRepository eventRepository, PlayerRepository playerRepository, GameMapper gameMapper, PlayerMapper playerMapper, IdeService ideService, StationService stationService, GameBuildCacheService gameBuildCacheService, GameSetupTracker gameSetupTracker, BlockingOperations blockingOperations, TimingWheel timingWheel, ReadRouter readRouter, GameArchiveService gameArchiveService, GameQueryCache gameQueryCache, BestTimeRegister bestTimeRegister, jakarta.enterprise.event.Event<GameRecorded> gameRecorded, jakarta.enterprise.event.Event<GameRemoved> gameRemoved, MeterRegistry meterRegistry) {
     this.gameConfig = gameConfig;
     this.gameRepository = gameRepository;
     this.eventRepository = eventRepository;
+    this.playerRepository = playerRepository;
     this.gameMapper = gameMapper;
+    this.playerMapper = playerMapper;
     this.ideService = ideService;
+    this.stationService = stationService;
+    this.gameBuildCacheService = gameBuildCacheService;
+    this.gameSetupTracker = gameSetupTracker;
+    this.blockingOperations = blockingOperations;
+    this.timingWheel = timingWheel;
+    this.readRouter = readRouter;
+    this.gameArchiveService = gameArchiveService;
+    this.gameQueryCache = gameQueryCache;
+    this.bestTimeRegister = bestTimeRegister;
+    this.gameRecorded = gameRecorded;
+    this.gameRemoved = gameRemoved;
+    this.meterRegistry = meterRegistry;
   }
 
   @WithSpan("GameService.getGameDatesForEvent")
   public Stream<LocalDate> getGameDatesForEvent(@SpanAttribute("arg.eventId") Long eventId) {
     Log.infof("Getting game dates for event with id: %s", eventId);
-    return this.gameRepository.getGameDatesOrderedChronologically(eventId)
+    return this.gameQueryCache.get("gameDates", eventId, () ->
+            this.gameArchiveService.findArchivedGames(eventId)
+                .map(ArchivedGames::getGameDays)
+                .orElseGet(() -> this.readRouter.read(ReadRouter.eventKey(eventId), entityManager -> this.gameRepository.getGameDatesOrderedChronologically(entityManager, eventId)))
+        )
         .stream();
   }
 
@@ -75,20 +136,54 @@ public class GameService {
   public List<GameDto> getGames(@Valid @NotNull @SpanAttribute("arg.eventId") Long eventId, @SpanAttribute("arg.sort") Sort sort, @SpanAttribute("arg.gameDateFilter") Optional<LocalDate> gameDateFilter) {
     Log.infof("Getting games for event with id: %s, sorted by: %s, with date filter: %s", eventId, sort, gameDateFilter);
 
-    return this.gameRepository.getGamesForEvent(eventId, sort, gameDateFilter)
-        .stream()
-        .map(this.gameMapper::toDto)
-        .toList();
+    return this.gameQueryCache.get("games", eventId, sort, gameDateFilter, 0, 0, () ->
+        this.gameArchiveService.findArchivedGames(eventId)
+            .map(archivedGames -> archivedGames.getGames(sort, gameDateFilter))
+            .orElseGet(() -> this.readRouter.read(ReadRouter.eventKey(eventId), entityManager -> this.gameRepository.getGameDtosForEvent(entityManager, eventId, sort, gameDateFilter)))
+    );
   }
 
-  @WithSpan("GameService.addGame")
+  /**
+   * One page of the event's games and the total number of games, in a single query
+   */
+  @WithSpan("GameService.getGamePage")
   @Transactional
-  public GameDto addGame(@Valid @NotNull @SpanAttribute("arg.game") GameDto gameDto) {
+  public GamePage<GameDto> getGamePage(@Valid @NotNull @SpanAttribute("arg.eventId") Long eventId, @SpanAttribute("arg.sort") Sort sort, @SpanAttribute("arg.gameDateFilter") Optional<LocalDate> gameDateFilter, @SpanAttribute("arg.offset") int offset, @SpanAttribute("arg.limit") int limit) {
+    Log.infof("Getting games %d - %d for event with id: %s, sorted by: %s, with date filter: %s", offset, offset + limit, eventId, sort, gameDateFilter);
+
+    return this.gameQueryCache.get("gamePage", eventId, sort, gameDateFilter, offset, limit, () ->
+        this.gameArchiveService.findArchivedGames(eventId)
+            .map(archivedGames -> archivedGames.getPage(sort, gameDateFilter, offset, limit))
+            .orElseGet(() -> this.readRouter.read(ReadRouter.eventKey(eventId), entityManager -> this.gameRepository.getGamePageForEvent(entityManager, eventId, sort, gameDateFilter, offset, limit)))
+    );
+  }
+
+  @WithSpan("GameService.addGame")
+  public SavedGame addGame(@Valid @NotNull @SpanAttribute("arg.game") GameDto gameDto) {
     Log.infof("Adding game: %s", gameDto);
     var eventId = gameDto.eventId();
 
-    return this.eventRepository.findByIdOptional(eventId)
-        .map(event -> saveGame(event, gameDto))
+    if (this.gameArchiveService.isArchived(eventId)) {
+      throw new NotAcceptableException("Event %d is archived, no more games can be added to it".formatted(eventId));
+    }
+
+    // Whether the game is a new best time is only decided once it is committed, so a game that rolls back never takes
+    // the record from one that commits
+    var savedGame = QuarkusTransaction.requiringNew().call(() -> saveGameForEvent(eventId, gameDto));
+    return new SavedGame(savedGame, this.bestTimeRegister.offer(eventId, savedGame.id(), savedGame.timeToComplete()));
+  }
+
+  private GameDto saveGameForEvent(Long eventId, GameDto gameDto) {
+    // Archiving an event locks it for update, so either the game is committed before the event's games are archived,
+    // or the archive is seen once the lock is granted
+    return this.eventRepository.findByIdOptional(eventId, LockModeType.PESSIMISTIC_READ)
+        .map(event -> {
+          if (this.gameArchiveService.hasArchive(eventId)) {
+            throw new NotAcceptableException("Event %d is archived, no more games can be added to it".formatted(eventId));
+          }
+
+          return saveGame(event, gameDto);
+        })
         .orElseThrow(() -> new NotAcceptableException("Game is not associated with any event, or event %d can not be found".formatted(eventId)));
   }
 
@@ -101,14 +196,22 @@ public class GameService {
   @Transactional
   public long countGamesForEvent(@SpanAttribute("arg.eventId") Long eventId, @SpanAttribute("arg.filter") Optional<LocalDate> gameDateFilter) {
     Log.infof("Counting games for event with id: %s", eventId);
-    return this.gameRepository.countGamesForEvent(eventId, gameDateFilter);
+    return this.gameQueryCache.get("gameCount", eventId, gameDateFilter, () ->
+        this.gameArchiveService.findArchivedGames(eventId)
+            .map(archivedGames -> archivedGames.count(gameDateFilter))
+            .orElseGet(() -> this.readRouter.read(ReadRouter.eventKey(eventId), entityManager -> this.gameRepository.countGamesForEvent(entityManager, eventId, gameDateFilter)))
+    );
   }
 
   @WithSpan("GameService.countGameDatesForEvent")
   @Transactional
   public long countGameDatesForEvent(@SpanAttribute("arg.eventId") Long eventId) {
     Log.infof("Counting game dates for event with id: %s", eventId);
-    return this.gameRepository.countGameDatesForEvent(eventId);
+    return this.gameQueryCache.get("gameDateCount", eventId, () ->
+        this.gameArchiveService.findArchivedGames(eventId)
+            .map(archivedGames -> (long) archivedGames.getGameDays().size())
+            .orElseGet(() -> this.readRouter.read(ReadRouter.eventKey(eventId), entityManager -> this.gameRepository.countGameDatesForEvent(entityManager, eventId)))
+    );
   }
 
   @WithSpan("GameService.deleteGame")
@@ -116,47 +219,118 @@ public class GameService {
   public void deleteGame(@SpanAttribute("arg.game") GameDto gameDto) {
     Log.infof("Deleting game: %s", gameDto);
     this.gameRepository.deleteById(gameDto.id());
+    recordGameWrite(gameDto.eventId());
+    this.gameRemoved.fire(new GameRemoved(gameDto));
   }
 
+  /**
+   * What is known about a returning player, looked up by their (normalised) email
+   */
+  @WithSpan("GameService.findPlayerStats")
+  @Transactional
+  public Optional<PlayerStats> findPlayerStats(@SpanAttribute("arg.email") String email) {
+    return this.playerRepository.findByEmail(email)
+        .flatMap(player ->
+            this.gameRepository.findPersonalBest(player.getId())
+                .map(personalBest -> new PlayerStats(
+                    this.playerMapper.toDto(player),
+                    this.gameRepository.countGamesForPlayer(player.getId()),
+                    personalBest.getTimeToComplete()
+                ))
+        );
+  }
+
+  /**
+   * Counts down from {@code startingFrom} to {@code 0}, emitting one number every {@code every} on {@code deliverOn}
+   */
   @WithSpan("GameService.countDown")
-  public Multi<Integer> countDown(@SpanAttribute("arg.startingFrom") Integer startingFrom, @SpanAttribute("arg.every") Duration every) {
-    return Multi.createFrom()
-        .range(0, startingFrom + 1)
-        .map(i -> startingFrom - i)
-        .call(() ->
-            Uni.createFrom().nullItem()
-                .onItem()
-                .delayIt()
-                .by(every)
-        )
-        .runSubscriptionOn(Infrastructure.getDefaultExecutor())
-        .emitOn(Infrastructure.getDefaultExecutor());
+  public Multi<Integer> countDown(@SpanAttribute("arg.startingFrom") Integer startingFrom, @SpanAttribute("arg.every") Duration every, Executor deliverOn) {
+    return Multi.createFrom().emitter(emitter -> {
+      var next = new AtomicInteger(startingFrom);
+      var timeout = this.timingWheel.schedulePeriodically(deliverOn, every, () -> {
+        var count = next.getAndDecrement();
+
+        if (count >= 0) {
+          emitter.emit(count);
+        }
+
+        if (count <= 0) {
+          emitter.complete();
+        }
+      });
+
+      emitter.onTermination(timeout::cancel);
+    });
   }
 
-  @WithSpan("GameService.timeGame")
-  public Multi<Long> timeGame() {
-    return Multi.createFrom()
-        .ticks()
-        .startingAfter(Duration.ofSeconds(1))
-        .every(Duration.ofSeconds(1))
-        .runSubscriptionOn(Infrastructure.getDefaultExecutor())
-        .emitOn(Infrastructure.getDefaultExecutor());
+  @WithSpan("GameService.startGameClock")
+  public GameClock startGameClock() {
+    return GameClock.start();
   }
 
-  private void resetRepo(Path checkoutDir) throws IOException, GitAPIException {
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (this.gameConfig.buildCache().prepareOnStartup()) {
+      prepareBuildInBackground();
+    }
+  }
+
+  /**
+   * Prepares the build of the current template revision on a virtual thread, in the build cache's own checkout, so the
+   * dependencies are in the local repository and the compiled game in the build cache before a player needs them.
+   * Runs on startup and whenever a setup finds no build for the template it just checked out. Only one runs at a time.
+   */
+  private void prepareBuildInBackground() {
+    var buildCacheConfig = this.gameConfig.buildCache();
+
+    if (!buildCacheConfig.enabled() || !this.preparingBuild.compareAndSet(false, true)) {
+      return;
+    }
+
+    var checkoutDir = buildCacheConfig.checkoutDir().normalize().toAbsolutePath();
+
+    this.blockingOperations.call(() -> {
+          if (Files.exists(checkoutDir)) {
+            fetchRepo(checkoutDir);
+            resetRepo(checkoutDir);
+          }
+          else {
+            Files.createDirectories(checkoutDir.getParent());
+            cloneRepo(checkoutDir);
+          }
+
+          // Rewritten the same way as a station's checkout, so the sources hash the same
+          setUpGameStart(checkoutDir);
+          return this.gameBuildCacheService.prepare(checkoutDir);
+        })
+        .onTermination().invoke(() -> this.preparingBuild.set(false))
+        .subscribe().with(
+            buildCacheStatus -> Log.infof("Prepared the game's build in the background (build cache: %s)", buildCacheStatus),
+            failure -> Log.warnf(failure, "Unable to prepare the game's build in [%s]", checkoutDir)
+        );
+  }
+
+  private Uni<Void> resetRepo(Path checkoutDir, Tracking tracking) {
+    return tracking.time(SetupPhase.FETCH, this.blockingOperations.run(() -> fetchRepo(checkoutDir)))
+        .chain(() -> tracking.time(SetupPhase.RESET, this.blockingOperations.run(() -> resetRepo(checkoutDir))))
+        .invoke(() -> Log.info("Game repository reset successfully"));
+  }
+
+  private void fetchRepo(Path checkoutDir) throws IOException, GitAPIException {
     try (var git = Git.open(checkoutDir.toFile())) {
       git.fetch()
           .setRemote("origin")
           .setProgressMonitor(new TextProgressMonitor())
           .call();
+    }
+  }
 
+  private void resetRepo(Path checkoutDir) throws IOException, GitAPIException {
+    try (var git = Git.open(checkoutDir.toFile())) {
       git.reset()
           .setMode(ResetType.HARD)
           .setRef("origin/%s".formatted(this.gameConfig.branch()))
           .setProgressMonitor(new TextProgressMonitor())
           .call();
-
-      Log.info("Game repository reset successfully");
     }
   }
 
@@ -176,37 +350,97 @@ public class GameService {
     }
   }
 
+  /**
+   * Sets up a new game on the next idle station. Every phase is its own {@link Uni}: blocking work runs on virtual
+   * threads and waits are timer driven, so no worker or event loop thread is held while the game starts. Cancelling
+   * the subscription stops the pipeline and releases the station.
+   * <p>
+   * Phases that don't depend on each other run concurrently: the IDE is opened and its MCP server waited on while the
+   * checkout is reset, its files rewritten and the build cache restored. Only once both branches are done is the game
+   * started. If either branch fails the other one is cancelled.
+   */
   @WithSpan("GameService.setUpNewGame")
-  public Uni<Void> setUpNewGame() {
-    return Uni.createFrom().voidItem()
-        .runSubscriptionOn(Infrastructure.getDefaultExecutor())
-        .emitOn(Infrastructure.getDefaultExecutor())
-        .invoke(() -> {
-          Log.info("Setting up new game");
-          var rootCheckoutDir = this.gameConfig.rootCheckoutDir().normalize().toAbsolutePath();
-
-          try {
-            Log.infof("Creating checkout directory: %s", rootCheckoutDir);
-            Files.createDirectories(rootCheckoutDir);
-
-            var checkoutDir = this.gameConfig.checkoutDir().normalize().toAbsolutePath();
-
-            if (Files.exists(checkoutDir)) {
-              Log.infof("Checkout directory [%s] already exists", checkoutDir);
-              resetRepo(checkoutDir);
-            }
-            else {
-              Log.infof("Checkout directory [%s] doesn't exist");
-              cloneRepo(checkoutDir);
-            }
-
-            setUpGameStart(checkoutDir);
+  public Uni<Station> setUpNewGame(@SpanAttribute("arg.player") PlayerDto player) {
+    var tracking = this.gameSetupTracker.start(player);
+
+    return tracking.time(SetupPhase.ALLOCATE_STATION, Uni.createFrom().item(() -> allocateStation(player)))
+        .invoke(station -> tracking.setStation(station.getName()))
+        .call(station ->
+            prepareStation(station, tracking)
+                .chain(buildCacheStatus -> startInIde(station, buildCacheStatus, tracking))
+                .invoke(() -> this.stationService.markInPlay(station))
+                .onFailure().invoke(_ -> this.stationService.release(station))
+                .onCancellation().invoke(() -> {
+                  Log.infof("Game setup on station [%s] cancelled", station.getName());
+                  this.stationService.release(station);
+                })
+        )
+        .onTermination().invoke((_, failure, cancelled) -> tracking.finish((failure == null) && !cancelled));
+  }
+
+  private Uni<BuildCacheStatus> prepareStation(Station station, Tracking tracking) {
+    Log.infof("Setting up new game on station [%s]", station.getName());
+    var rootCheckoutDir = this.gameConfig.rootCheckoutDir().normalize().toAbsolutePath();
+    var checkoutDir = station.getCheckoutDir();
+
+    return this.blockingOperations.call(() -> {
+          Log.infof("Creating checkout directory: %s", rootCheckoutDir);
+          Files.createDirectories(rootCheckoutDir);
+          return Files.exists(checkoutDir);
+        })
+        .chain(checkoutExists -> {
+          if (checkoutExists) {
+            // The IDE can open an existing checkout while it is being reset
+            Log.infof("Checkout directory [%s] already exists", checkoutDir);
+            return prepareCheckoutAndOpenProject(resetRepo(checkoutDir, tracking), station, tracking);
           }
-          catch (Exception e) {
-            throw new RuntimeException(e);
+
+          // A fresh clone has to exist before the IDE can open it
+          Log.infof("Checkout directory [%s] doesn't exist", checkoutDir);
+          return tracking.time(SetupPhase.CLONE, this.blockingOperations.run(() -> cloneRepo(checkoutDir)))
+              .chain(() -> prepareCheckoutAndOpenProject(Uni.createFrom().voidItem(), station, tracking));
+        });
+  }
+
+  private Uni<BuildCacheStatus> prepareCheckoutAndOpenProject(Uni<Void> updateCheckout, Station station, Tracking tracking) {
+    var checkoutDir = station.getCheckoutDir();
+    var prepareCheckout = updateCheckout
+        .chain(() -> tracking.time(SetupPhase.REWRITE_FILES, this.blockingOperations.run(() -> setUpGameStart(checkoutDir))))
+        .chain(() -> tracking.time(SetupPhase.BUILD_CACHE, this.blockingOperations.call(() -> this.gameBuildCacheService.restore(checkoutDir))))
+        // The template has moved on since its build was last prepared. This game starts cold, the next ones won't.
+        .invoke(buildCacheStatus -> {
+          if (buildCacheStatus == BuildCacheStatus.MISS) {
+            prepareBuildInBackground();
           }
-        })
-        .invoke(() -> this.ideService.startInIde(this.gameConfig.checkoutDir().normalize().toAbsolutePath()));
+        });
+
+    return Uni.combine().all()
+        .unis(prepareCheckout, this.ideService.openProject(station, tracking))
+        .with((buildCacheStatus, _) -> buildCacheStatus);
+  }
+
+  private Uni<Void> startInIde(Station station, BuildCacheStatus buildCacheStatus, Tracking tracking) {
+    return Uni.createFrom().deferred(() -> {
+      var startTime = System.nanoTime();
+
+      return this.ideService.startInIde(station, tracking)
+          .invoke(() -> {
+            var startupTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+            Log.infof("Game on station [%s] started in %s (build cache: %s)", station.getName(), startupTime, buildCacheStatus);
+            Timer.builder("game.startup")
+                .description("Time from launching the game until it is up and running in dev mode")
+                .tag("station", station.getName())
+                .tag("buildCache", buildCacheStatus.name().toLowerCase())
+                .register(this.meterRegistry)
+                .record(startupTime);
+          });
+    });
+  }
+
+  private Station allocateStation(PlayerDto player) {
+    return this.stationService.allocate(player)
+        .orElseThrow(() -> new IllegalStateException("All %d game stations are busy".formatted(this.stationService.getStations().size())));
   }
 
   private void setUpGameStart(Path gameDir) {
@@ -244,9 +478,26 @@ public class GameService {
   private GameDto saveGame(Event event, GameDto gameDto) {
     var game = this.gameMapper.toEntity(gameDto);
     game.setEvent(event);
+    game.setPlayer(resolvePlayer(game.getPlayer()));
 
+    this.bestTimeRegister.prepare(event.getId());
     this.gameRepository.persistAndFlush(game);
+    recordGameWrite(event.getId());
+
+    var savedGame = this.gameMapper.toDto(game);
+    this.gameRecorded.fire(new GameRecorded(savedGame, event.getName(), game.getGameDay()));
+
+    return savedGame;
+  }
+
+  // A returning player keeps their identity, but goes by the name they gave this time
+  private Player resolvePlayer(Player player) {
+    return this.playerRepository.upsertByEmail(player);
+  }
 
-    return this.gameMapper.toDto(game);
+  // Events are listed with their games, so a game write is a write to the event list too
+  private void recordGameWrite(Long eventId) {
+    this.readRouter.recordWrite(ReadRouter.eventKey(eventId));
+    this.readRouter.recordWrite(ReadRouter.EVENTS_KEY);
   }
 }
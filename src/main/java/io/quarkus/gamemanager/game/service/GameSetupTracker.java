@@ -0,0 +1,260 @@
+package io.quarkus.gamemanager.game.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.game.config.GameConfig;
+import io.quarkus.gamemanager.game.domain.PhaseStatistics;
+import io.quarkus.gamemanager.game.domain.PhaseTiming;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.domain.SetupPhase;
+import io.quarkus.gamemanager.game.domain.SetupTimeline;
+import io.quarkus.gamemanager.ide.PhaseTimer;
+import io.quarkus.logging.Log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Times every phase of a game setup as a Micrometer timer and as a child span of the setup span, and keeps
+ * the timelines of the most recent setups in memory.
+ */
+@ApplicationScoped
+public class GameSetupTracker {
+  private static final Duration MIN_EXPECTED_PHASE_DURATION = Duration.ofMillis(1);
+  private static final Duration MAX_EXPECTED_PHASE_DURATION = Duration.ofMinutes(5);
+
+  private final MeterRegistry meterRegistry;
+  private final Tracer tracer;
+  private final int historySize;
+  private final Deque<SetupTimeline> history;
+
+  public GameSetupTracker(MeterRegistry meterRegistry, Tracer tracer, GameConfig gameConfig) {
+    this.meterRegistry = meterRegistry;
+    this.tracer = tracer;
+    this.historySize = gameConfig.setupHistorySize();
+    this.history = new ArrayDeque<>(this.historySize);
+  }
+
+  public Tracking start(PlayerDto player) {
+    return new Tracking(player);
+  }
+
+  public List<SetupTimeline> getRecentSetups() {
+    synchronized (this.history) {
+      return List.copyOf(this.history);
+    }
+  }
+
+  public List<PhaseStatistics> getPhaseStatistics() {
+    var setups = getRecentSetups();
+
+    return Stream.of(SetupPhase.values())
+        .map(phase -> createPhaseStatistics(phase, setups))
+        .filter(statistics -> statistics.count() > 0)
+        .toList();
+  }
+
+  private static PhaseStatistics createPhaseStatistics(SetupPhase phase, List<SetupTimeline> setups) {
+    var durations = setups.stream()
+        .flatMap(setup -> setup.getPhase(phase).stream())
+        .filter(PhaseTiming::successful)
+        .map(PhaseTiming::duration)
+        .sorted()
+        .toList();
+
+    return new PhaseStatistics(phase, durations.size(), percentile(durations, 0.5), percentile(durations, 0.95));
+  }
+
+  static Duration percentile(List<Duration> sortedDurations, double percentile) {
+    if (sortedDurations.isEmpty()) {
+      return Duration.ZERO;
+    }
+
+    // Nearest-rank
+    var rank = (int) Math.ceil(percentile * sortedDurations.size());
+    return sortedDurations.get(Math.max(rank, 1) - 1);
+  }
+
+  /**
+   * Walks back from the phase that finished last, each time stepping to the latest finishing phase that ended before
+   * the current one started. That is the phase the current one was waiting on.
+   */
+  static List<PhaseTiming> criticalPath(List<PhaseTiming> phases) {
+    var criticalPath = new ArrayDeque<PhaseTiming>();
+    var current = phases.stream().max(Comparator.comparing(PhaseTiming::end));
+
+    while (current.isPresent()) {
+      var phase = current.get();
+      criticalPath.addFirst(phase);
+      current = phases.stream()
+          .filter(candidate -> candidate != phase)
+          .filter(candidate -> candidate.end().compareTo(phase.offset()) <= 0)
+          .max(Comparator.comparing(PhaseTiming::end));
+    }
+
+    return List.copyOf(criticalPath);
+  }
+
+  private void addToHistory(SetupTimeline timeline) {
+    synchronized (this.history) {
+      while (this.history.size() >= this.historySize) {
+        this.history.removeLast();
+      }
+
+      this.history.addFirst(timeline);
+    }
+  }
+
+  private Timer phaseTimer(SetupPhase phase, String station, boolean successful) {
+    return Timer.builder("game.setup.phase")
+        .description("Time taken by each phase of a game setup")
+        .tags(Tags.of("phase", phase.name().toLowerCase(), "station", station, "outcome", successful ? "success" : "failure"))
+        .publishPercentileHistogram()
+        .publishPercentiles(0.5, 0.95)
+        .minimumExpectedValue(MIN_EXPECTED_PHASE_DURATION)
+        .maximumExpectedValue(MAX_EXPECTED_PHASE_DURATION)
+        .register(this.meterRegistry);
+  }
+
+  public final class Tracking implements PhaseTimer {
+    private final PlayerDto player;
+    private final Context parentContext = Context.current();
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<PhaseTiming> phases = Collections.synchronizedList(new ArrayList<>());
+    private volatile String station = "unallocated";
+
+    private Tracking(PlayerDto player) {
+      this.player = player;
+    }
+
+    public void setStation(String station) {
+      this.station = station;
+    }
+
+    /**
+     * Times {@code uni} from subscription until it emits, fails or is cancelled. A cancelled phase is recorded as
+     * unsuccessful. {@code uni} is subscribed to with the phase's span current, so anything it traces is a child of the
+     * phase.
+     */
+    @Override
+    public <T> Uni<T> time(SetupPhase phase, Uni<T> uni) {
+      return Uni.createFrom().emitter(emitter -> {
+        var phaseRun = new PhaseRun(phase);
+        Cancellable subscription;
+
+        try (var _ = phaseRun.span.makeCurrent()) {
+          subscription = uni.onTermination().invoke((_, failure, cancelled) ->
+                  phaseRun.end(cancelled ? new CancellationException("%s cancelled".formatted(phase)) : failure)
+              )
+              .subscribe().with(emitter::complete, emitter::fail);
+        }
+
+        emitter.onTermination(subscription::cancel);
+      });
+    }
+
+    private final class PhaseRun {
+      private final SetupPhase phase;
+      private final Span span;
+      private final long phaseStart = System.nanoTime();
+
+      private PhaseRun(SetupPhase phase) {
+        this.phase = phase;
+        this.span = tracer.spanBuilder("GameSetup.%s".formatted(phase.name().toLowerCase()))
+            .setParent(parentContext)
+            .setAttribute("station", station)
+            .startSpan();
+      }
+
+      private void end(Throwable failure) {
+        var duration = Duration.ofNanos(System.nanoTime() - this.phaseStart);
+        var successful = failure == null;
+
+        if (!successful) {
+          this.span.recordException(failure);
+          this.span.setStatus(StatusCode.ERROR);
+        }
+
+        this.span.end();
+        phaseTimer(this.phase, station, successful).record(duration);
+        phases.add(new PhaseTiming(this.phase, Duration.ofNanos(this.phaseStart - startNanos), duration, successful));
+        Log.infof("Game setup phase [%s] on station [%s] took %s", this.phase, station, duration);
+      }
+    }
+
+    private void recordCriticalPath(SetupTimeline timeline) {
+      timeline.criticalPath()
+          .forEach(phase ->
+              Counter.builder("game.setup.critical.path.phase")
+                  .description("Number of game setups where the phase was on the critical path")
+                  .tags(Tags.of("phase", phase.phase().name().toLowerCase(), "station", this.station))
+                  .register(meterRegistry)
+                  .increment()
+          );
+
+      var savings = timeline.concurrencySavings();
+      Timer.builder("game.setup.concurrency.savings")
+          .description("Wall-clock time saved per game setup by running independent phases concurrently")
+          .tags(Tags.of("station", this.station))
+          .register(meterRegistry)
+          .record(savings.isNegative() ? Duration.ZERO : savings);
+
+      Log.infof("Critical path of game setup on station [%s]: %s", this.station, timeline.criticalPath().stream().map(PhaseTiming::phase).toList());
+    }
+
+    private List<PhaseTiming> getPhases() {
+      synchronized (this.phases) {
+        return List.copyOf(this.phases);
+      }
+    }
+
+    public SetupTimeline finish(boolean successful) {
+      var total = Duration.ofNanos(System.nanoTime() - this.startNanos);
+      var playerName = (this.player != null) ? "%s %s".formatted(this.player.firstName(), this.player.lastName()) : "";
+      var phases = getPhases();
+      var timeline = new SetupTimeline(
+          this.station,
+          playerName,
+          this.startedAt,
+          total,
+          successful,
+          phases,
+          criticalPath(phases)
+      );
+
+      Timer.builder("game.setup")
+          .description("Total time taken to set up a game")
+          .tags(Tags.of("station", this.station, "outcome", successful ? "success" : "failure"))
+          .publishPercentileHistogram()
+          .publishPercentiles(0.5, 0.95)
+          .minimumExpectedValue(MIN_EXPECTED_PHASE_DURATION)
+          .maximumExpectedValue(MAX_EXPECTED_PHASE_DURATION)
+          .register(meterRegistry)
+          .record(total);
+
+      recordCriticalPath(timeline);
+      addToHistory(timeline);
+      return timeline;
+    }
+  }
+}
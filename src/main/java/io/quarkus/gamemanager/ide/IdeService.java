@@ -1,7 +1,22 @@
 package io.quarkus.gamemanager.ide;
 
-import java.nio.file.Path;
+import io.quarkus.gamemanager.station.domain.Station;
+
+import io.smallrye.mutiny.Uni;
 
 public interface IdeService {
-  void startInIde(Path gameDir);
+  /**
+   * Opens the station's checkout in the IDE. This doesn't depend on the content of the checkout, so it runs
+   * concurrently with the git reset. Nothing to do by default.
+   */
+  default Uni<Void> openProject(Station station, PhaseTimer phaseTimer) {
+    return Uni.createFrom().voidItem();
+  }
+
+  /**
+   * Launches the game on the station once the checkout is ready and {@link #openProject(Station, PhaseTimer)} has
+   * completed. The returned {@link Uni} completes once the game is up and running, and must not block the
+   * subscribing thread.
+   */
+  Uni<Void> startInIde(Station station, PhaseTimer phaseTimer);
 }
@@ -0,0 +1,15 @@
+package io.quarkus.gamemanager.ide;
+
+import io.quarkus.gamemanager.game.domain.SetupPhase;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Times the phases of a game setup that an {@link IdeService} runs, without tying the IDE to how a setup is tracked
+ */
+public interface PhaseTimer {
+  /**
+   * Times {@code uni} as {@code phase} of the setup, from subscription until it emits, fails or is cancelled
+   */
+  <T> Uni<T> time(SetupPhase phase, Uni<T> uni);
+}
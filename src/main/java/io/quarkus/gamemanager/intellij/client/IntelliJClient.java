@@ -1,9 +1,5 @@
 package io.quarkus.gamemanager.intellij.client;
 
-import static org.awaitility.Awaitility.await;
-
-import java.time.Duration;
-
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -22,18 +18,10 @@ public interface IntelliJClient {
   @Produces(MediaType.SERVER_SENT_EVENTS)
   Response endpoint();
 
-  default void waitUntilAcceptingConnections() {
-    await("IntelliJ MCP Server available")
-        .ignoreExceptions()
-        .atMost(Duration.ofMinutes(1))
-        .pollInterval(Duration.ofSeconds(3))
-        .pollDelay(Duration.ofSeconds(2))
-        .logging(log -> Log.infof("Checking IntelliJ MCP Server availability: %s", log))
-        .until(() -> {
-          try (var response = endpoint()) {
-            Log.debugf("IntelliJ MCP Server response: %s", response.getStatus());
-            return response.getStatus() == Status.OK.getStatusCode();
-          }
-        });
+  default boolean isAcceptingConnections() {
+    try (var response = endpoint()) {
+      Log.debugf("IntelliJ MCP Server response: %s", response.getStatus());
+      return response.getStatus() == Status.OK.getStatusCode();
+    }
   }
 }
@@ -1,60 +1,86 @@
 package io.quarkus.gamemanager.intellij.service;
 
-import static org.awaitility.Awaitility.await;
-
 import java.io.IOException;
-import java.nio.file.Path;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.core.Response.Status;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
-import io.quarkus.gamemanager.game.client.GameDevUiClient;
-import io.quarkus.gamemanager.game.config.GameConfig;
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
+import io.quarkus.gamemanager.game.domain.SetupPhase;
 import io.quarkus.gamemanager.ide.IdeService;
+import io.quarkus.gamemanager.ide.PhaseTimer;
 import io.quarkus.gamemanager.intellij.client.IntelliJClient;
+import io.quarkus.gamemanager.station.domain.Station;
 import io.quarkus.logging.Log;
 
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @ApplicationScoped
 public class IntelliJService implements IdeService {
-  private final GameDevUiClient gameDevUiClient;
-  private final GameConfig gameConfig;
+  private static final Duration POLL_INTERVAL = Duration.ofSeconds(3);
+  private static final Duration POLL_TIMEOUT = Duration.ofMinutes(1);
+  private static final String DOT_ENV = ".env";
+  private static final String HTTP_PORT_VARIABLE = "QUARKUS_HTTP_PORT";
+
   private final IntelliJActionService intelliJActionService;
   private final IntelliJClient intelliJClient;
-  private final AtomicReference<Process> intellijProcess = new AtomicReference<>();
+  private final BlockingOperations blockingOperations;
+  private final Map<String, Process> intellijProcesses = new ConcurrentHashMap<>();
 
-  public IntelliJService(@RestClient GameDevUiClient gameDevUiClient, GameConfig gameConfig, IntelliJActionService intelliJActionService, @RestClient IntelliJClient intelliJClient) {
-    this.gameDevUiClient = gameDevUiClient;
-    this.gameConfig = gameConfig;
+  public IntelliJService(IntelliJActionService intelliJActionService, @RestClient IntelliJClient intelliJClient, BlockingOperations blockingOperations) {
     this.intelliJActionService = intelliJActionService;
     this.intelliJClient = intelliJClient;
+    this.blockingOperations = blockingOperations;
   }
 
   @Override
-  @WithSpan("IntelliJService.startInIde")
-  public void startInIde(@SpanAttribute("arg.gameDir") Path gameDir) {
-    Log.infof("Opening new game in directory [%s]", gameDir);
-    var intellijProcess = getIntellijProcess();
-
-    Log.infof("Started intellij process: %s", intellijProcess.pid());
+  @WithSpan("IntelliJService.openProject")
+  public Uni<Void> openProject(@SpanAttribute("arg.station") Station station, PhaseTimer phaseTimer) {
+    Log.infof("Opening directory [%s] for station [%s] in IntelliJ", station.getCheckoutDir(), station.getName());
+
+    return phaseTimer.time(SetupPhase.IDE_LAUNCH, this.blockingOperations.call(() -> getIntellijProcess(station)))
+        .invoke(intellijProcess -> Log.infof("Started intellij process: %s", intellijProcess.pid()))
+        // Need to wait for IntelliJ MCP Server to be available
+        .call(() -> phaseTimer.time(
+            SetupPhase.MCP_WAIT,
+            this.blockingOperations.pollUntil("IntelliJ MCP Server available", this.intelliJClient::isAcceptingConnections, Duration.ofSeconds(2), POLL_INTERVAL, POLL_TIMEOUT)
+        ))
+        .replaceWithVoid();
+  }
 
-    // Need to wait for IntelliJ MCP Server to be available
-    Log.debug("Waiting for IntelliJ MCP Server to be available...");
-    this.intelliJClient.waitUntilAcceptingConnections();
+  @Override
+  @WithSpan("IntelliJService.startInIde")
+  public Uni<Void> startInIde(@SpanAttribute("arg.station") Station station, PhaseTimer phaseTimer) {
+    var gameDir = station.getCheckoutDir();
+    Log.infof("Starting new game for station [%s] in directory [%s]", station.getName(), gameDir);
+
+    // Every station runs the same run configuration, so the station's port has to come from its checkout
+    return this.blockingOperations.run(() -> writeHttpPort(station))
+        .invoke(() -> runIdeActions(gameDir.toString()))
+        // Now wait for dev mode to start
+        .call(() -> phaseTimer.time(
+            SetupPhase.HEALTH_WAIT,
+            this.blockingOperations.pollUntil("game startup", () -> isHealthy(station), Duration.ofSeconds(2), POLL_INTERVAL, POLL_TIMEOUT)
+        ))
+        .call(() -> this.blockingOperations.run(() ->
+            new ProcessBuilder("open", "%s/continuous-testing".formatted(station.getAppDevUiUrl().toString()))
+                .start()
+        ));
+  }
 
+  private void runIdeActions(String gameDir) {
     // Run an async process to open some files
     var unis = Stream.of(
         "README.md",
@@ -64,19 +90,15 @@ public class IntelliJService implements IdeService {
         "src/main/java/io/quarkus/game/ContainsRequiredInfoGuardrail.java",
         "src/main/java/io/quarkus/game/Storyteller.java"
         )
-        .map(file -> Uni.createFrom()
-            .item(() -> this.intelliJActionService.openFile(file, gameDir.toString()))
+        .map(file -> this.blockingOperations.call(() -> this.intelliJActionService.openFile(file, gameDir))
             .invoke(f -> Log.infof("Opened file in IntelliJ: %s", f))
-            .runSubscriptionOn(Infrastructure.getDefaultExecutor())
         )
         .collect(Collectors.toCollection(ArrayList::new));
 
     // Execute the run configuration
     unis.add(
-        Uni.createFrom()
-            .item(() -> this.intelliJActionService.executeRunConfiguration("booth-game", gameDir.toString()))
+        this.blockingOperations.call(() -> this.intelliJActionService.executeRunConfiguration("booth-game", gameDir))
             .invoke(output -> Log.infof("Run configuration executed: %s", output))
-            .runSubscriptionOn(Infrastructure.getDefaultExecutor())
     );
 
     Uni.join()
@@ -86,32 +108,32 @@ public class IntelliJService implements IdeService {
             _ -> Log.info("All IntelliJ actions completed"),
             t -> Log.error("Failed to execute things in intellij", t)
         );
+  }
 
-    // Now wait for dev mode to start
-    await("game startup")
-        .ignoreException(ProcessingException.class)
-        .atMost(Duration.ofMinutes(1))
-        .pollInterval(Duration.ofSeconds(3))
-        .pollDelay(Duration.ofSeconds(2))
-        .logging(log -> Log.infof("Checking to see if game is up: %s", log))
-        .until(() -> {
-          try (var response = this.gameDevUiClient.health()) {
-            return response.getStatus() == Status.OK.getStatusCode();
-          }
-        });
+  /**
+   * Dev mode reads the {@code .env} file in the project directory, so setting {@code QUARKUS_HTTP_PORT} there starts
+   * the {@code booth-game} run configuration on the station's own port. Anything else in the file is kept.
+   */
+  private static void writeHttpPort(Station station) throws IOException {
+    var dotEnv = station.getCheckoutDir().resolve(DOT_ENV);
+    var lines = Files.exists(dotEnv) ?
+                new ArrayList<>(Files.readAllLines(dotEnv)) :
+                new ArrayList<String>();
+
+    lines.removeIf(line -> line.strip().startsWith(HTTP_PORT_VARIABLE + "="));
+    lines.add("%s=%d".formatted(HTTP_PORT_VARIABLE, station.getAppHttpPort()));
+    Files.write(dotEnv, lines);
+  }
 
-    try {
-      new ProcessBuilder("open", "%s/continuous-testing".formatted(this.gameConfig.appDevUiUrl().toString()))
-          .start();
-    }
-    catch (IOException e) {
-      throw new RuntimeException(e);
+  private static boolean isHealthy(Station station) {
+    try (var response = station.getGameDevUiClient().health()) {
+      return response.getStatus() == Status.OK.getStatusCode();
     }
   }
 
-  private Process createIntellijProcess() {
+  private Process createIntellijProcess(Station station) {
     try {
-      var process = new ProcessBuilder("intellij", this.gameConfig.checkoutDir().normalize().toAbsolutePath().toString())
+      var process = new ProcessBuilder("intellij", station.getCheckoutDir().toString())
           .start();
 
       process.onExit().thenAccept(p -> Log.infof("Intellij process %d exited with code: %d", p.pid(), p.exitValue()));
@@ -123,13 +145,12 @@ public class IntelliJService implements IdeService {
     }
   }
 
-  private synchronized Process getIntellijProcess() {
-    var process = Optional.ofNullable(this.intellijProcess.get())
-        .filter(Process::isAlive)
-        .orElseGet(this::createIntellijProcess);
-
-    this.intellijProcess.set(process);
-
-    return process;
+  private Process getIntellijProcess(Station station) {
+    return this.intellijProcesses.compute(
+        station.getName(),
+        (_, process) -> Optional.ofNullable(process)
+            .filter(Process::isAlive)
+            .orElseGet(() -> createIntellijProcess(station))
+    );
   }
 }
@@ -0,0 +1,13 @@
+package io.quarkus.gamemanager.leaderboard.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "game-manager.leaderboard")
+public interface LeaderboardConfig {
+  /**
+   * How many of the fastest games each hall of fame leaderboard keeps
+   */
+  @WithDefault("10")
+  int size();
+}
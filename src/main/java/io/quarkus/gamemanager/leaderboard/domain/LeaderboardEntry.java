@@ -0,0 +1,16 @@
+package io.quarkus.gamemanager.leaderboard.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+
+public record LeaderboardEntry(
+    Long gameId,
+    PlayerDto player,
+    Long eventId,
+    String eventName,
+    Instant gameDate,
+    Duration timeToComplete
+) {
+}
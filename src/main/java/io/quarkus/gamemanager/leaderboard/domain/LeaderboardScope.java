@@ -0,0 +1,43 @@
+package io.quarkus.gamemanager.leaderboard.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Which games a leaderboard ranks: all of them, or those played in one calendar year. Years are UTC years, so which
+ * year a game counts towards doesn't depend on where the game manager happens to run.
+ */
+public record LeaderboardScope(Integer year) {
+  public static final LeaderboardScope ALL_TIME = new LeaderboardScope(null);
+
+  public static LeaderboardScope ofYear(int year) {
+    return new LeaderboardScope(year);
+  }
+
+  public static LeaderboardScope yearOf(Instant gameDate) {
+    return ofYear(gameDate.atZone(ZoneOffset.UTC).getYear());
+  }
+
+  public Optional<Integer> getYear() {
+    return Optional.ofNullable(this.year);
+  }
+
+  public boolean isAllTime() {
+    return this.year == null;
+  }
+
+  public Optional<Instant> getStart() {
+    return getYear().map(y -> LocalDate.of(y, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant());
+  }
+
+  public Optional<Instant> getEnd() {
+    return getYear().map(y -> LocalDate.of(y + 1, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant());
+  }
+
+  @Override
+  public String toString() {
+    return getYear().map(String::valueOf).orElse("All time");
+  }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.gamemanager.leaderboard.domain;
+
+import java.time.Duration;
+
+/**
+ * How a completion time compares to the games already played
+ *
+ * @param fasterThan The fraction ({@code 0} - {@code 1}) of games that took longer than {@code timeToComplete}
+ */
+public record Standing(
+    Duration timeToComplete,
+    long games,
+    double fasterThan
+) {
+  public int getFasterThanPercent() {
+    return (int) Math.floor(this.fasterThan * 100);
+  }
+}
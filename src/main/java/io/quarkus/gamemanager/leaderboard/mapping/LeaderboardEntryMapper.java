@@ -0,0 +1,26 @@
+package io.quarkus.gamemanager.leaderboard.mapping;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants.ComponentModel;
+
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.mapping.PlayerMapper;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardEntry;
+
+@Mapper(componentModel = ComponentModel.JAKARTA_CDI, uses = PlayerMapper.class)
+public interface LeaderboardEntryMapper {
+  @Mapping(target = "gameId", source = "id")
+  @Mapping(target = "eventId", source = "event.id")
+  @Mapping(target = "eventName", source = "event.name")
+  LeaderboardEntry toEntry(Game game);
+
+  @Mapping(target = "gameId", source = "game.id")
+  @Mapping(target = "player", source = "game.player")
+  @Mapping(target = "eventId", source = "game.eventId")
+  @Mapping(target = "eventName", source = "eventName")
+  @Mapping(target = "gameDate", source = "game.gameDate")
+  @Mapping(target = "timeToComplete", source = "game.timeToComplete")
+  LeaderboardEntry toEntry(GameDto game, String eventName);
+}
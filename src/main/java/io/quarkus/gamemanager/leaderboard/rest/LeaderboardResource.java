@@ -0,0 +1,68 @@
+package io.quarkus.gamemanager.leaderboard.rest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestQuery;
+
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardEntry;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardScope;
+import io.quarkus.gamemanager.leaderboard.domain.Standing;
+import io.quarkus.gamemanager.leaderboard.service.CompletionTimeSketches;
+import io.quarkus.gamemanager.leaderboard.service.HallOfFameService;
+
+import io.smallrye.common.annotation.NonBlocking;
+
+@Path("/leaderboards")
+@Produces(MediaType.APPLICATION_JSON)
+public class LeaderboardResource {
+  private final HallOfFameService hallOfFameService;
+  private final CompletionTimeSketches completionTimeSketches;
+
+  public LeaderboardResource(HallOfFameService hallOfFameService, CompletionTimeSketches completionTimeSketches) {
+    this.hallOfFameService = hallOfFameService;
+    this.completionTimeSketches = completionTimeSketches;
+  }
+
+  /**
+   * The fastest games of all time, across all events. Served from memory, so straight from the event loop.
+   */
+  @GET
+  @NonBlocking
+  public List<LeaderboardEntry> getAllTimeLeaderboard() {
+    return this.hallOfFameService.getLeaderboard(LeaderboardScope.ALL_TIME);
+  }
+
+  /**
+   * The fastest games played in {@code year}, across all events
+   */
+  @GET
+  @NonBlocking
+  @Path("/{year}")
+  public List<LeaderboardEntry> getLeaderboardForYear(@RestPath int year) {
+    return this.hallOfFameService.getLeaderboard(LeaderboardScope.ofYear(year));
+  }
+
+  /**
+   * How a completion time of {@code seconds} ranks among the games of the given events (repeat {@code event} for
+   * several), optionally only those played on {@code day}
+   */
+  @GET
+  @Path("/standing")
+  public Standing getStanding(@RestQuery("event") List<Long> eventIds, @RestQuery LocalDate day, @RestQuery double seconds) {
+    if (eventIds.isEmpty()) {
+      throw new BadRequestException("At least one event is required");
+    }
+
+    return this.completionTimeSketches.getStanding(eventIds, Optional.ofNullable(day), Duration.ofNanos((long) (seconds * 1_000_000_000)));
+  }
+}
@@ -0,0 +1,218 @@
+package io.quarkus.gamemanager.leaderboard.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.transaction.Transactional;
+
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.gamemanager.game.domain.GameRecorded;
+import io.quarkus.gamemanager.game.domain.GameRemoved;
+import io.quarkus.gamemanager.game.repository.GameRepository;
+import io.quarkus.gamemanager.leaderboard.domain.Standing;
+
+import com.tdunning.math.stats.TDigest;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
+/**
+ * A t-digest of the completion times of every event, per game day, so how a time ranks can be answered in constant
+ * time and memory however many games an event has. Digests of several days or events are merged on demand. With only a
+ * few games a digest's interpolation is noticeably off, and counting them is cheap, so below {@link #EXACT_BELOW} games
+ * the standing is counted exactly instead.
+ * <p>
+ * An event's digests are built from the database the first time they are needed and then kept up to date as games are
+ * committed. A t-digest can't forget a value, so deleting a game throws the event's digests away to be rebuilt.
+ * <p>
+ * Every change to an event bumps its version. Games committed while the event's digests are being built may or may not
+ * be in them, so digests built while the version changed answer the query they were built for but aren't kept.
+ */
+@ApplicationScoped
+public class CompletionTimeSketches {
+  // Keeps the error well below a percentage point at the tails, for a few kB per digest
+  static final double COMPRESSION = 100;
+  static final long EXACT_BELOW = 500;
+
+  private final GameRepository gameRepository;
+  private final GameArchiveService gameArchiveService;
+  private final Map<Long, EventSketch> sketches = new ConcurrentHashMap<>();
+  // Only ever changed while holding the event's entry in sketches, so the two can't get out of step
+  private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+  public CompletionTimeSketches(GameRepository gameRepository, GameArchiveService gameArchiveService) {
+    this.gameRepository = gameRepository;
+    this.gameArchiveService = gameArchiveService;
+  }
+
+  /**
+   * How {@code timeToComplete} ranks among all of the event's games
+   */
+  @WithSpan("CompletionTimeSketches.getStanding")
+  @Transactional
+  public Standing getStanding(@SpanAttribute("arg.eventId") Long eventId, @SpanAttribute("arg.timeToComplete") Duration timeToComplete) {
+    return getStanding(List.of(eventId), Optional.empty(), timeToComplete);
+  }
+
+  /**
+   * How {@code timeToComplete} ranks among the games of all of {@code eventIds}, optionally only those played on
+   * {@code gameDay}
+   */
+  @WithSpan("CompletionTimeSketches.getStandingAcrossEvents")
+  @Transactional
+  public Standing getStanding(@SpanAttribute("arg.eventIds") Collection<Long> eventIds, @SpanAttribute("arg.gameDay") Optional<LocalDate> gameDay, @SpanAttribute("arg.timeToComplete") Duration timeToComplete) {
+    var merged = TDigest.createMergingDigest(COMPRESSION);
+    eventIds.forEach(eventId -> getSketch(eventId).mergeInto(merged, gameDay));
+
+    return (merged.size() < EXACT_BELOW) ?
+           exactStanding(eventIds, gameDay, timeToComplete) :
+           standing(merged, timeToComplete);
+  }
+
+  // Times are stored in whole milliseconds, so that's what the time is compared in
+  private Standing exactStanding(Collection<Long> eventIds, Optional<LocalDate> gameDay, Duration timeToComplete) {
+    var millis = timeToComplete.toMillis();
+    var games = new long[1];
+    var slower = new long[1];
+
+    eventIds.forEach(eventId ->
+        this.gameArchiveService.findArchivedGames(eventId)
+            .ifPresentOrElse(
+                archivedGames -> archivedGames.forEachCompletionTime((day, time) -> {
+                  if (gameDay.isEmpty() || gameDay.get().equals(day)) {
+                    games[0]++;
+
+                    if (time.toMillis() > millis) {
+                      slower[0]++;
+                    }
+                  }
+                }),
+                () -> {
+                  games[0] += this.gameRepository.countGamesForEvent(eventId, gameDay);
+                  slower[0] += this.gameRepository.countGamesSlowerThan(eventId, gameDay, Duration.ofMillis(millis));
+                }
+            )
+    );
+
+    return standing(games[0], slower[0], timeToComplete);
+  }
+
+  static Standing standing(long games, long slower, Duration timeToComplete) {
+    return (games == 0) ?
+           new Standing(timeToComplete, 0, 1) :
+           new Standing(timeToComplete, games, (double) slower / games);
+  }
+
+  static Standing standing(TDigest digest, Duration timeToComplete) {
+    if (digest.size() == 0) {
+      return new Standing(timeToComplete, 0, 1);
+    }
+
+    // cdf is the fraction of games at or below the time (half of any exactly equal), the rest were slower
+    return new Standing(timeToComplete, digest.size(), 1 - digest.cdf(toValue(timeToComplete)));
+  }
+
+  void onGameRecorded(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRecorded gameRecorded) {
+    var game = gameRecorded.game();
+
+    // Only events that have been loaded are kept up to date, the others will read the game from the database
+    this.sketches.compute(game.eventId(), (eventId, sketch) -> {
+      bumpVersion(eventId);
+
+      if (sketch != null) {
+        sketch.add(gameRecorded.gameDay(), game.timeToComplete());
+      }
+
+      return sketch;
+    });
+  }
+
+  void onGameRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRemoved gameRemoved) {
+    invalidate(gameRemoved.game().eventId());
+  }
+
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) EventRemoved eventRemoved) {
+    invalidate(eventRemoved.eventId());
+  }
+
+  private void invalidate(Long eventId) {
+    this.sketches.compute(eventId, (_, _) -> {
+      bumpVersion(eventId);
+      return null;
+    });
+  }
+
+  private void bumpVersion(Long eventId) {
+    this.versions.merge(eventId, 1L, Long::sum);
+  }
+
+  private long versionOf(Long eventId) {
+    return this.versions.getOrDefault(eventId, 0L);
+  }
+
+  // Loaded outside of the map, so games recorded meanwhile aren't held up, and only kept if none were
+  private EventSketch getSketch(Long eventId) {
+    var sketch = this.sketches.get(eventId);
+
+    if (sketch != null) {
+      return sketch;
+    }
+
+    var version = versionOf(eventId);
+    var loaded = loadSketch(eventId);
+
+    var kept = this.sketches.compute(eventId, (_, existing) -> {
+      if (existing != null) {
+        return existing;
+      }
+
+      return (versionOf(eventId) == version) ? loaded : null;
+    });
+
+    return (kept != null) ? kept : loaded;
+  }
+
+  private EventSketch loadSketch(Long eventId) {
+    var sketch = new EventSketch();
+    var archivedGames = this.gameArchiveService.findArchivedGames(eventId);
+
+    if (archivedGames.isPresent()) {
+      archivedGames.get().forEachCompletionTime(sketch::add);
+    }
+    else {
+      try (var completionTimes = this.gameRepository.streamCompletionTimesForEvent(eventId)) {
+        completionTimes.forEach(row -> sketch.add((LocalDate) row[0], (Duration) row[1]));
+      }
+    }
+
+    return sketch;
+  }
+
+  private static double toValue(Duration duration) {
+    return duration.toNanos() / 1_000_000.0;
+  }
+
+  private static final class EventSketch {
+    private final Map<LocalDate, TDigest> digestsByDay = new HashMap<>();
+
+    private synchronized void add(LocalDate gameDay, Duration timeToComplete) {
+      this.digestsByDay.computeIfAbsent(gameDay, _ -> TDigest.createMergingDigest(COMPRESSION))
+          .add(toValue(timeToComplete));
+    }
+
+    private synchronized void mergeInto(TDigest merged, Optional<LocalDate> gameDay) {
+      gameDay.map(day -> Optional.ofNullable(this.digestsByDay.get(day)).stream().toList())
+          .orElseGet(() -> List.copyOf(this.digestsByDay.values()))
+          .forEach(merged::add);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package io.quarkus.gamemanager.leaderboard.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.gamemanager.game.domain.GameRecorded;
+import io.quarkus.gamemanager.game.domain.GameRemoved;
+import io.quarkus.gamemanager.game.repository.GameRepository;
+import io.quarkus.gamemanager.leaderboard.config.LeaderboardConfig;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardEntry;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardScope;
+import io.quarkus.gamemanager.leaderboard.mapping.LeaderboardEntryMapper;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
+/**
+ * All-time and per-year leaderboards across every event. Each one keeps only its fastest games in memory and is
+ * updated as games are committed or deleted, so showing it never scans the games table. They are rebuilt from the
+ * database on startup.
+ */
+@ApplicationScoped
+public class HallOfFameService {
+  private final GameRepository gameRepository;
+  private final GameArchiveService gameArchiveService;
+  private final LeaderboardEntryMapper leaderboardEntryMapper;
+  private final int size;
+  private final Map<LeaderboardScope, TopK> leaderboards = new ConcurrentHashMap<>();
+
+  public HallOfFameService(GameRepository gameRepository, GameArchiveService gameArchiveService, LeaderboardEntryMapper leaderboardEntryMapper, LeaderboardConfig leaderboardConfig) {
+    this.gameRepository = gameRepository;
+    this.gameArchiveService = gameArchiveService;
+    this.leaderboardEntryMapper = leaderboardEntryMapper;
+    this.size = leaderboardConfig.size();
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    rebuild();
+  }
+
+  /**
+   * Reloads every leaderboard from the database
+   */
+  @WithSpan("HallOfFameService.rebuild")
+  public void rebuild() {
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.leaderboards.clear();
+      getLeaderboard(LeaderboardScope.ALL_TIME, true);
+
+      // Only the first and last game dates are needed to know which years have games, both are read off the index
+      // (or the archive summaries)
+      Stream.of(this.gameRepository.findEarliestGameDate(), this.gameArchiveService.findEarliestGameDate())
+          .flatMap(Optional::stream)
+          .min(Comparator.naturalOrder())
+          .map(LeaderboardScope::yearOf)
+          .ifPresent(first -> {
+            var last = Stream.of(this.gameRepository.findLatestGameDate(), this.gameArchiveService.findLatestGameDate())
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder())
+                .map(LeaderboardScope::yearOf)
+                .orElse(first);
+
+            IntStream.rangeClosed(first.year(), last.year())
+                .mapToObj(LeaderboardScope::ofYear)
+                .forEach(scope -> getLeaderboard(scope, true));
+          });
+    });
+
+    Log.infof("Rebuilt hall of fame leaderboards: %s", this.leaderboards.keySet());
+  }
+
+  @WithSpan("HallOfFameService.getLeaderboard")
+  public List<LeaderboardEntry> getLeaderboard(@SpanAttribute("arg.scope") LeaderboardScope scope) {
+    return Optional.ofNullable(this.leaderboards.get(scope))
+        .map(TopK::getEntries)
+        .orElseGet(List::of);
+  }
+
+  /**
+   * All time first, then every year that has games, most recent first
+   */
+  public List<LeaderboardScope> getScopes() {
+    var years = this.leaderboards.keySet()
+        .stream()
+        .filter(scope -> !scope.isAllTime())
+        .sorted(Comparator.comparing(LeaderboardScope::year).reversed());
+
+    return Stream.concat(Stream.of(LeaderboardScope.ALL_TIME), years).toList();
+  }
+
+  void onGameRecorded(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRecorded gameRecorded) {
+    var entry = this.leaderboardEntryMapper.toEntry(gameRecorded.game(), gameRecorded.eventName());
+
+    Stream.of(LeaderboardScope.ALL_TIME, LeaderboardScope.yearOf(entry.gameDate()))
+        .map(scope -> getLeaderboard(scope, false))
+        .forEach(leaderboard -> leaderboard.add(entry));
+  }
+
+  void onGameRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRemoved gameRemoved) {
+    var gameId = gameRemoved.game().id();
+    remove(entry -> entry.gameId().equals(gameId));
+  }
+
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) EventRemoved eventRemoved) {
+    var eventId = eventRemoved.eventId();
+    remove(entry -> entry.eventId().equals(eventId));
+  }
+
+  private void remove(Predicate<LeaderboardEntry> filter) {
+    this.leaderboards.forEach((scope, leaderboard) -> {
+      if (leaderboard.removeIf(filter)) {
+        leaderboard.reloadIfIncomplete(() -> QuarkusTransaction.requiringNew().call(() -> loadFastest(scope)));
+      }
+    });
+  }
+
+  /**
+   * A leaderboard that doesn't exist yet is loaded from the database, unless it is known to be new (i.e. the first
+   * game of a year was just played), in which case it starts out empty.
+   */
+  private TopK getLeaderboard(LeaderboardScope scope, boolean load) {
+    return this.leaderboards.computeIfAbsent(scope, s -> {
+      var leaderboard = new TopK(this.size);
+
+      if (load) {
+        leaderboard.load(loadFastest(s));
+      }
+
+      return leaderboard;
+    });
+  }
+
+  // Archived events' games are no longer in the games table, their archives are asked for their fastest games instead
+  private List<LeaderboardEntry> loadFastest(LeaderboardScope scope) {
+    var live = this.gameRepository.getFastestGames(scope.getStart(), scope.getEnd(), this.size)
+        .stream()
+        .map(this.leaderboardEntryMapper::toEntry);
+
+    var archived = this.gameArchiveService.getFastestGames(scope.getStart(), scope.getEnd(), this.size)
+        .stream()
+        .map(archivedGame -> this.leaderboardEntryMapper.toEntry(archivedGame.game(), archivedGame.eventName()));
+
+    return Stream.concat(live, archived)
+        .sorted(TopK.FASTEST_FIRST)
+        .limit(this.size)
+        .toList();
+  }
+}
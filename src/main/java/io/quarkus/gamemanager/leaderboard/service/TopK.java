@@ -0,0 +1,98 @@
+package io.quarkus.gamemanager.leaderboard.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardEntry;
+
+/**
+ * The {@code capacity} fastest games of a leaderboard, ordered fastest first. Adding and removing a game is
+ * {@code O(log capacity)}.
+ * <p>
+ * Games pushed out when the leaderboard is full are forgotten, so once one of the kept games is removed the
+ * leaderboard can no longer tell which game moves up. It then has to be {@link #reloadIfIncomplete(Supplier) reloaded}.
+ */
+final class TopK {
+  static final Comparator<LeaderboardEntry> FASTEST_FIRST = Comparator.comparing(LeaderboardEntry::timeToComplete)
+      .thenComparing(LeaderboardEntry::gameId);
+
+  private final int capacity;
+  private final TreeSet<LeaderboardEntry> entries = new TreeSet<>(FASTEST_FIRST);
+  private final Map<Long, LeaderboardEntry> entriesByGameId = new HashMap<>();
+
+  // Whether every game in scope is held, i.e. no game has been pushed out or left out
+  private boolean complete = true;
+
+  TopK(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @param fastest The fastest games in scope, at most {@code capacity} of them
+   */
+  synchronized void load(List<LeaderboardEntry> fastest) {
+    this.entries.clear();
+    this.entriesByGameId.clear();
+    fastest.forEach(this::put);
+    this.complete = fastest.size() < this.capacity;
+  }
+
+  /**
+   * @return Whether the game made it onto the leaderboard
+   */
+  synchronized boolean add(LeaderboardEntry entry) {
+    if (this.entriesByGameId.containsKey(entry.gameId())) {
+      return false;
+    }
+
+    if (this.entries.size() < this.capacity) {
+      put(entry);
+      return true;
+    }
+
+    this.complete = false;
+
+    if (FASTEST_FIRST.compare(entry, this.entries.last()) < 0) {
+      var pushedOut = this.entries.pollLast();
+      this.entriesByGameId.remove(pushedOut.gameId());
+      put(entry);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * @return Whether any game was removed from the leaderboard
+   */
+  synchronized boolean removeIf(Predicate<LeaderboardEntry> filter) {
+    var removed = this.entries.removeIf(filter);
+    this.entriesByGameId.values().removeIf(filter);
+
+    return removed;
+  }
+
+  /**
+   * Reloads the leaderboard if games were removed from it while others had been pushed out before. Done while holding
+   * the lock, so no concurrently added game is lost.
+   */
+  synchronized void reloadIfIncomplete(Supplier<List<LeaderboardEntry>> fastest) {
+    if (!this.complete && (this.entries.size() < this.capacity)) {
+      load(fastest.get());
+    }
+  }
+
+  synchronized List<LeaderboardEntry> getEntries() {
+    return List.copyOf(this.entries);
+  }
+
+  private void put(LeaderboardEntry entry) {
+    this.entries.add(entry);
+    this.entriesByGameId.put(entry.gameId(), entry);
+  }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.gamemanager.station.domain;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.quarkus.gamemanager.game.client.GameDevUiClient;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+
+public final class Station {
+  private final String name;
+  private final Path checkoutDir;
+  private final int appHttpPort;
+  private final URL appDevUiUrl;
+  private final GameDevUiClient gameDevUiClient;
+  private final AtomicReference<StationState> state = new AtomicReference<>(StationState.IDLE);
+  private volatile PlayerDto player;
+
+  public Station(String name, Path checkoutDir, int appHttpPort, URL appDevUiUrl, GameDevUiClient gameDevUiClient) {
+    this.name = name;
+    this.checkoutDir = checkoutDir.normalize().toAbsolutePath();
+    this.appHttpPort = appHttpPort;
+    this.appDevUiUrl = appDevUiUrl;
+    this.gameDevUiClient = gameDevUiClient;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Path getCheckoutDir() {
+    return checkoutDir;
+  }
+
+  public int getAppHttpPort() {
+    return appHttpPort;
+  }
+
+  public URL getAppDevUiUrl() {
+    return appDevUiUrl;
+  }
+
+  public GameDevUiClient getGameDevUiClient() {
+    return gameDevUiClient;
+  }
+
+  public StationState getState() {
+    return this.state.get();
+  }
+
+  public Optional<PlayerDto> getPlayer() {
+    return Optional.ofNullable(this.player);
+  }
+
+  public boolean tryAllocate(PlayerDto player) {
+    if (this.state.compareAndSet(StationState.IDLE, StationState.SETTING_UP)) {
+      this.player = player;
+      return true;
+    }
+
+    return false;
+  }
+
+  public void markInPlay() {
+    this.state.compareAndSet(StationState.SETTING_UP, StationState.IN_PLAY);
+  }
+
+  public void release() {
+    this.player = null;
+    this.state.set(StationState.IDLE);
+  }
+
+  @Override
+  public String toString() {
+    return "Station{" +
+        "name='" + getName() + '\'' +
+        ", checkoutDir=" + getCheckoutDir() +
+        ", appHttpPort=" + getAppHttpPort() +
+        ", state=" + getState() +
+        ", player=" + this.player +
+        '}';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof Station station)) {
+      return false;
+    }
+
+    return Objects.equals(name, station.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(name);
+  }
+}
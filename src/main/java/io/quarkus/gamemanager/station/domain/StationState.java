@@ -0,0 +1,17 @@
+package io.quarkus.gamemanager.station.domain;
+
+public enum StationState {
+  IDLE("Idle"),
+  SETTING_UP("Setting up"),
+  IN_PLAY("In play");
+
+  private final String label;
+
+  StationState(String label) {
+    this.label = label;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.gamemanager.station.service;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.gamemanager.game.client.GameDevUiClient;
+import io.quarkus.gamemanager.game.config.GameConfig;
+import io.quarkus.gamemanager.game.config.GameConfig.StationConfig;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.station.domain.Station;
+import io.quarkus.logging.Log;
+import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
+@ApplicationScoped
+public class StationService {
+  private static final String DEFAULT_STATION_NAME = "default";
+  private static final String DEFAULT_HOST = "localhost";
+
+  private final List<Station> stations;
+  private final List<Consumer<Station>> stateListeners = new CopyOnWriteArrayList<>();
+
+  public StationService(GameConfig gameConfig) {
+    this.stations = createStations(gameConfig);
+    Log.infof("Configured game stations: %s", this.stations);
+  }
+
+  public List<Station> getStations() {
+    return this.stations;
+  }
+
+  public Runnable addStateListener(Consumer<Station> listener) {
+    this.stateListeners.add(listener);
+    return () -> this.stateListeners.remove(listener);
+  }
+
+  @WithSpan("StationService.allocate")
+  public Optional<Station> allocate(@SpanAttribute("arg.player") PlayerDto player) {
+    for (var station : this.stations) {
+      if (station.tryAllocate(player)) {
+        Log.infof("Allocated station [%s] to player %s", station.getName(), player);
+        stateChanged(station);
+        return Optional.of(station);
+      }
+    }
+
+    Log.warnf("No idle station available for player %s", player);
+    return Optional.empty();
+  }
+
+  public void markInPlay(Station station) {
+    Log.infof("Station [%s] is now in play", station.getName());
+    station.markInPlay();
+    stateChanged(station);
+  }
+
+  public void release(Station station) {
+    Log.infof("Releasing station [%s]", station.getName());
+    station.release();
+    stateChanged(station);
+  }
+
+  private void stateChanged(Station station) {
+    this.stateListeners.forEach(listener -> listener.accept(station));
+  }
+
+  private static List<Station> createStations(GameConfig gameConfig) {
+    if (gameConfig.stations().isEmpty()) {
+      return List.of(
+          createStation(DEFAULT_STATION_NAME, gameConfig.checkoutDir(), DEFAULT_HOST, gameConfig.appHttpPort(), gameConfig.appDevUiUrl())
+      );
+    }
+
+    return gameConfig.stations()
+        .entrySet()
+        .stream()
+        .sorted(Entry.comparingByKey())
+        .map(entry -> createStation(gameConfig, entry.getKey(), entry.getValue()))
+        .toList();
+  }
+
+  private static Station createStation(GameConfig gameConfig, String name, StationConfig stationConfig) {
+    var checkoutDir = stationConfig.checkoutDir()
+        .orElseGet(() -> gameConfig.rootCheckoutDir().resolve("%s-%s".formatted(gameConfig.repoDirName(), name)));
+
+    return createStation(name, checkoutDir, stationConfig.host(), stationConfig.appHttpPort(), null);
+  }
+
+  private static Station createStation(String name, Path checkoutDir, String host, int appHttpPort, URL appDevUiUrl) {
+    var appUri = URI.create("http://%s:%d".formatted(host, appHttpPort));
+    var gameDevUiClient = QuarkusRestClientBuilder.newBuilder()
+        .baseUri(appUri)
+        .build(GameDevUiClient.class);
+
+    return new Station(
+        name,
+        checkoutDir,
+        appHttpPort,
+        Optional.ofNullable(appDevUiUrl).orElseGet(() -> toUrl(appUri.resolve("/q/dev-ui"))),
+        gameDevUiClient
+    );
+  }
+
+  private static URL toUrl(URI uri) {
+    try {
+      return uri.toURL();
+    }
+    catch (MalformedURLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package io.quarkus.gamemanager.ui;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.GameRecorded;
+import io.quarkus.gamemanager.game.domain.GameRemoved;
+import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.gamemanager.ui.components.DurationFormatter;
+import io.quarkus.panache.common.Sort;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.shared.Registration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One shared, already rendered leaderboard per event for the read-only displays. A display gets the whole leaderboard
+ * once, as JSON, and after that only the changes to it, so all a display holds on the server is its subscription.
+ * An event's leaderboard is loaded when its first display subscribes and dropped when its last one goes away.
+ */
+@ApplicationScoped
+public class LiveLeaderboards {
+  private static final Sort LEADERBOARD_ORDER = Sort.by("timeToComplete").and("id");
+  private static final Comparator<Row> FASTEST_FIRST = Comparator.comparing(Row::timeToComplete).thenComparing(Row::id);
+
+  private final GameService gameService;
+  private final ObjectMapper objectMapper;
+  private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+  private final AtomicInteger viewers = new AtomicInteger();
+
+  public LiveLeaderboards(GameService gameService, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.gameService = gameService;
+    this.objectMapper = objectMapper;
+
+    Gauge.builder("leaderboard.displays", this.viewers, AtomicInteger::get)
+        .description("Number of read-only leaderboard displays currently connected")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Hands {@code viewer} the event's whole leaderboard, and then every change to it, each as a JSON message
+   */
+  public Registration subscribe(Long eventId, Consumer<String> viewer) {
+    while (true) {
+      var board = this.boards.computeIfAbsent(eventId, _ -> new Board());
+
+      synchronized (board) {
+        // The last display of the board went away in the meantime, and the board with it
+        if (board.dropped) {
+          continue;
+        }
+
+        if (!board.loaded) {
+          board.load(this.gameService.getGames(eventId, LEADERBOARD_ORDER, Optional.empty()));
+        }
+
+        board.viewers.add(viewer);
+        this.viewers.incrementAndGet();
+        viewer.accept(board.snapshot());
+
+        return () -> unsubscribe(eventId, board, viewer);
+      }
+    }
+  }
+
+  private void unsubscribe(Long eventId, Board board, Consumer<String> viewer) {
+    synchronized (board) {
+      if (board.viewers.remove(viewer)) {
+        this.viewers.decrementAndGet();
+      }
+
+      if (board.viewers.isEmpty()) {
+        board.dropped = true;
+        this.boards.remove(eventId, board);
+      }
+    }
+  }
+
+  void onGameRecorded(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRecorded gameRecorded) {
+    var game = gameRecorded.game();
+    withLoadedBoard(game.eventId(), board -> board.add(toRow(game)));
+  }
+
+  void onGameRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) GameRemoved gameRemoved) {
+    var game = gameRemoved.game();
+    withLoadedBoard(game.eventId(), board -> board.remove(game.id()));
+  }
+
+  void onEventRemoved(@Observes(during = TransactionPhase.AFTER_SUCCESS) EventRemoved eventRemoved) {
+    withLoadedBoard(eventRemoved.eventId(), board -> board.load(List.of()));
+  }
+
+  // Boards nobody is looking at aren't kept up to date, they're loaded afresh when someone does
+  private void withLoadedBoard(Long eventId, Consumer<Board> change) {
+    var board = this.boards.get(eventId);
+
+    if (board != null) {
+      synchronized (board) {
+        if (board.loaded) {
+          change.accept(board);
+        }
+      }
+    }
+  }
+
+  private static Row toRow(GameDto game) {
+    var player = "%s %s".formatted(game.player().firstName(), game.player().lastName());
+    return new Row(game.id(), player, DurationFormatter.format(game.timeToComplete()), game.timeToComplete());
+  }
+
+  private String toJson(Object message) {
+    try {
+      return this.objectMapper.writeValueAsString(message);
+    }
+    catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to serialize leaderboard message %s".formatted(message), e);
+    }
+  }
+
+  private final class Board {
+    private final List<Row> rows = new ArrayList<>();
+    private final List<Consumer<String>> viewers = new CopyOnWriteArrayList<>();
+    private boolean loaded;
+    private boolean dropped;
+
+    // Rendered once per change, however many displays ask for it
+    private String snapshot;
+
+    void load(List<GameDto> games) {
+      this.rows.clear();
+      games.stream()
+          .map(LiveLeaderboards::toRow)
+          .forEach(this.rows::add);
+
+      this.loaded = true;
+      this.snapshot = null;
+      publish(new Reset(this.rows));
+    }
+
+    String snapshot() {
+      if (this.snapshot == null) {
+        this.snapshot = toJson(new Reset(this.rows));
+      }
+
+      return this.snapshot;
+    }
+
+    void add(Row row) {
+      // The game may already have been loaded along with the rest of the leaderboard
+      if (this.rows.stream().anyMatch(existing -> existing.id().equals(row.id()))) {
+        return;
+      }
+
+      var found = Collections.binarySearch(this.rows, row, FASTEST_FIRST);
+      var index = (found < 0) ? -(found + 1) : found;
+      this.rows.add(index, row);
+      this.snapshot = null;
+      publish(new Added(index, row));
+    }
+
+    void remove(Long gameId) {
+      if (this.rows.removeIf(row -> row.id().equals(gameId))) {
+        this.snapshot = null;
+        publish(new Removed(gameId));
+      }
+    }
+
+    private void publish(Object message) {
+      if (!this.viewers.isEmpty()) {
+        var json = toJson(message);
+        this.viewers.forEach(viewer -> viewer.accept(json));
+      }
+    }
+  }
+
+  record Row(Long id, String player, String time, @JsonIgnore Duration timeToComplete) {
+  }
+
+  record Reset(String type, List<Row> rows) {
+    Reset(List<Row> rows) {
+      this("reset", rows);
+    }
+  }
+
+  record Added(String type, int index, Row row) {
+    Added(int index, Row row) {
+      this("added", index, row);
+    }
+  }
+
+  record Removed(String type, Long gameId) {
+    Removed(Long gameId) {
+      this("removed", gameId);
+    }
+  }
+}
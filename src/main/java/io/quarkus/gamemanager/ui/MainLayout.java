@@ -3,11 +3,16 @@ package io.quarkus.gamemanager.ui;
 import java.util.ArrayList;
 import java.util.Optional;
 
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
 import io.quarkus.gamemanager.event.domain.EventDto;
 import io.quarkus.gamemanager.event.service.EventService;
 import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.gamemanager.leaderboard.service.CompletionTimeSketches;
+import io.quarkus.gamemanager.station.service.StationService;
 import io.quarkus.gamemanager.ui.components.AddEventDialog;
 import io.quarkus.gamemanager.ui.views.GamesForEventView;
+import io.quarkus.gamemanager.ui.views.HallOfFameView;
 import io.quarkus.logging.Log;
 
 import com.vaadin.flow.component.Component;
@@ -32,6 +37,7 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouterLink;
 import com.vaadin.flow.theme.lumo.Lumo;
 
 @PageTitle("Event Manager")
@@ -47,7 +53,7 @@ public class MainLayout extends AppLayout implements BeforeEnterObserver {
   private boolean isDefaultDarkTheme = false;
   private String currentTheme = Lumo.LIGHT;
 
-  public MainLayout(EventService eventService, GameBroadcaster gameBroadcaster, GameService gameService) {
+  public MainLayout(EventService eventService, GameBroadcaster gameBroadcaster, GameService gameService, GameArchiveService gameArchiveService, CompletionTimeSketches completionTimeSketches, BlockingOperations blockingOperations, StationService stationService) {
     super();
     this.eventService = eventService;
 
@@ -75,7 +81,12 @@ public class MainLayout extends AppLayout implements BeforeEnterObserver {
 
     anchor.setTarget(AnchorTarget.BLANK);
 
-    var titleLayout = new HorizontalLayout(this.switchThemeButton, anchor);
+    var hallOfFameLink = new RouterLink(HallOfFameView.class);
+    hallOfFameLink.add(VaadinIcon.TROPHY.create());
+    hallOfFameLink.getElement().setAttribute("title", "Hall of Fame");
+
+    var titleLayout = new HorizontalLayout(this.switchThemeButton, anchor, hallOfFameLink);
+    titleLayout.setAlignItems(Alignment.CENTER);
     titleLayout.setSpacing(true);
 
     var spacer = new Div();
@@ -83,7 +94,7 @@ public class MainLayout extends AppLayout implements BeforeEnterObserver {
 
     addToNavbar(titleLayout, spacer, createEventNavItem());
 
-    this.gamesForEventView = new GamesForEventView(gameService, gameBroadcaster);
+    this.gamesForEventView = new GamesForEventView(gameService, gameArchiveService, completionTimeSketches, blockingOperations, stationService, gameBroadcaster);
     setContent(this.gamesForEventView);
   }
 
@@ -0,0 +1,37 @@
+package io.quarkus.gamemanager.ui;
+
+import java.util.concurrent.Executor;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+
+/**
+ * Runs commands inside {@link UI#access}. There is exactly one per UI, so the
+ * {@link io.quarkus.gamemanager.concurrent.TimingWheel} batches everything due for a UI on the same tick into a
+ * single access.
+ */
+public final class UiAccessExecutor implements Executor {
+  private final UI ui;
+
+  private UiAccessExecutor(UI ui) {
+    this.ui = ui;
+  }
+
+  public static UiAccessExecutor of(UI ui) {
+    synchronized (ui) {
+      var executor = ComponentUtil.getData(ui, UiAccessExecutor.class);
+
+      if (executor == null) {
+        executor = new UiAccessExecutor(ui);
+        ComponentUtil.setData(ui, UiAccessExecutor.class, executor);
+      }
+
+      return executor;
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    this.ui.access(command::run);
+  }
+}
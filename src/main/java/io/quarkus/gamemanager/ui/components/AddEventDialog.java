@@ -1,6 +1,8 @@
 package io.quarkus.gamemanager.ui.components;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
 import java.util.Optional;
 
 import jakarta.validation.constraints.NotEmpty;
@@ -13,6 +15,7 @@ import com.vaadin.flow.component.Key;
 import com.vaadin.flow.component.ModalityMode;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.formlayout.FormLayout;
@@ -32,6 +35,7 @@ public final class AddEventDialog extends Dialog {
   private final EventService eventService;
   private final TextField nameField = new TextField("Event Name");
   private final DatePicker dateField = new DatePicker("Event Date");
+  private final ComboBox<ZoneId> timeZoneField = new ComboBox<>("Time Zone");
   private final TextArea descriptionField = new TextArea("Event Description");
   private final Binder<EventForm> binder = new BeanValidationBinder<>(EventForm.class);
   private final EventForm eventForm = new EventForm();
@@ -53,6 +57,17 @@ public final class AddEventDialog extends Dialog {
     this.dateField.setRequiredIndicatorVisible(true);
     this.dateField.setErrorMessage("Event date is required");
     this.dateField.addFocusListener(e -> this.dateField.open());
+    // Region based zones only, the database reads a bare offset like +01:00 the other way around (POSIX style)
+    this.timeZoneField.setItems(ZoneId.getAvailableZoneIds()
+        .stream()
+        .map(ZoneId::of)
+        .sorted(Comparator.comparing(ZoneId::getId))
+        .toList());
+    this.timeZoneField.setItemLabelGenerator(ZoneId::getId);
+    this.timeZoneField.setValue(ZoneId.systemDefault());
+    this.timeZoneField.setRequired(true);
+    this.timeZoneField.setRequiredIndicatorVisible(true);
+    this.timeZoneField.setErrorMessage("Time zone is required");
     this.descriptionField.setRequired(true);
     this.descriptionField.setRequiredIndicatorVisible(true);
     this.descriptionField.setErrorMessage("Event description is required");
@@ -63,7 +78,7 @@ public final class AddEventDialog extends Dialog {
     layout.setExpandFields(true);
 
     var nameDateRow = new FormRow();
-    nameDateRow.add(this.nameField, this.dateField);
+    nameDateRow.add(this.nameField, this.dateField, this.timeZoneField);
 
     var descriptionRow = new FormRow();
     descriptionRow.add(this.descriptionField, 2);
@@ -97,6 +112,10 @@ public final class AddEventDialog extends Dialog {
         .withValidator(date -> date!=null, "Event date is required")
         .bind("eventDate");
 
+    this.binder.forField(this.timeZoneField)
+        .withValidator(timeZone -> timeZone!=null, "Time zone is required")
+        .bind("timeZone");
+
     this.binder.forField(this.descriptionField)
         .withValidator(description -> (description!=null) && !description.isBlank(), "Event description is required")
         .bind("description");
@@ -132,6 +151,9 @@ public final class AddEventDialog extends Dialog {
     @NotEmpty(message = "Description is required")
     private String description;
 
+    @NotNull(message = "Time zone is required")
+    private ZoneId timeZone = ZoneId.systemDefault();
+
     public String getDescription() {
       return description;
     }
@@ -148,6 +170,14 @@ public final class AddEventDialog extends Dialog {
       this.eventDate = eventDate;
     }
 
+    public ZoneId getTimeZone() {
+      return timeZone;
+    }
+
+    public void setTimeZone(ZoneId timeZone) {
+      this.timeZone = timeZone;
+    }
+
     public String getName() {
       return name;
     }
@@ -161,6 +191,7 @@ public final class AddEventDialog extends Dialog {
       form.setDescription(dto.description());
       form.setEventDate(dto.eventDate());
       form.setName(dto.name());
+      form.setTimeZone(dto.timeZone());
       return form;
     }
 
@@ -168,7 +199,8 @@ public final class AddEventDialog extends Dialog {
       return new EventDto(
           this.eventDate,
           this.name,
-          this.description);
+          this.description,
+          this.timeZone);
     }
   }
 }
@@ -12,9 +12,10 @@ public final class DurationFormatter {
     var minsPart = (mins == 0) ? "" : "%d %s ".formatted(mins, minLabel);
 
     var secs = duration.toSecondsPart();
-    var secLabel = (secs == 1) ? "second" : "seconds";
-    var secsPart = (secs == 0) ? "" : "%d %s".formatted(secs, secLabel);
+    var millis = duration.toMillisPart();
+    var secLabel = ((secs == 1) && (millis == 0)) ? "second" : "seconds";
+    var secsPart = ((secs == 0) && (millis == 0)) ? "" : "%d.%03d %s".formatted(secs, millis, secLabel);
 
-    return "%s%s".formatted(minsPart, secsPart);
+    return "%s%s".formatted(minsPart, secsPart).strip();
   }
 }
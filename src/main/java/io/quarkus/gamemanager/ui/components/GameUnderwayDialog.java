@@ -2,14 +2,12 @@ package io.quarkus.gamemanager.ui.components;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.Flow.Subscriber;
-import java.util.concurrent.Flow.Subscription;
 
+import io.quarkus.gamemanager.game.domain.GameClock;
 import io.quarkus.gamemanager.game.domain.PlayerDto;
 import io.quarkus.gamemanager.game.service.GameService;
 
 import com.vaadin.flow.component.ModalityMode;
-import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -20,9 +18,37 @@ import com.vaadin.flow.dom.Style.Display;
 import com.vaadin.flow.dom.Style.FontWeight;
 import com.vaadin.flow.dom.Style.TextAlign;
 
+/**
+ * The game is timed on the server by a {@link GameClock}. The visible clock is only a rendering of it: the browser
+ * ticks it from the server's elapsed time when the label is attached, so a running game doesn't cause any traffic.
+ */
 public final class GameUnderwayDialog extends Dialog {
-  private final TimerSubscriber timer;
+  // Same format as DurationFormatter, ticking once per animation frame
+  private static final String CLIENT_CLOCK_SCRIPT = """
+      const element = this;
+      const start = performance.now() - $0;
+      const plural = (value, label) => value + ' ' + label + ((value === 1) ? '' : 's');
+      const render = () => {
+        if (!element.isConnected || element.__gameClockStopped) {
+          return;
+        }
+
+        const elapsed = Math.floor(performance.now() - start);
+        const mins = Math.floor(elapsed / 60000);
+        const secs = Math.floor((elapsed % 60000) / 1000);
+        const millis = String(elapsed % 1000).padStart(3, '0');
+        const secsLabel = ((secs === 1) && (millis === '000')) ? 'second' : 'seconds';
+        element.textContent = ((mins > 0) ? plural(mins, 'minute') + ' ' : '') + secs + '.' + millis + ' ' + secsLabel;
+        requestAnimationFrame(render);
+      };
+
+      element.__gameClockStopped = false;
+      render();
+      """;
+
+  private final GameClock clock;
   private final Span elapsedTimeLabel = new Span();
+  private boolean cancelled = false;
 
   public GameUnderwayDialog(PlayerDto player, GameService gameService) {
     super("%s's game is underway!".formatted(player.firstName()));
@@ -33,12 +59,14 @@ public final class GameUnderwayDialog extends Dialog {
     setResizable(true);
     setDraggable(true);
 
-    this.timer = new TimerSubscriber(UI.getCurrentOrThrow());
-    gameService.timeGame().subscribe(this.timer);
+    this.clock = gameService.startGameClock();
 
     this.elapsedTimeLabel.getStyle().setFontWeight(FontWeight.BOLD);
     this.elapsedTimeLabel.getStyle().setTextAlign(TextAlign.CENTER);
     this.elapsedTimeLabel.getStyle().setDisplay(Display.BLOCK);
+    this.elapsedTimeLabel.addAttachListener(_ ->
+        this.elapsedTimeLabel.getElement().executeJs(CLIENT_CLOCK_SCRIPT, this.clock.elapsed().toMillis())
+    );
 
     add(this.elapsedTimeLabel);
 
@@ -55,66 +83,20 @@ public final class GameUnderwayDialog extends Dialog {
   }
 
   private void cancelGame() {
-    this.timer.cancel();
+    this.cancelled = true;
+    this.clock.stop();
     close();
   }
 
   private void completeGame() {
-    this.timer.complete();
+    // The button click is the authoritative stop, the browser's clock is only a rendering
+    var finalTime = this.clock.stop();
+    this.elapsedTimeLabel.getElement().executeJs("this.__gameClockStopped = true");
+    this.elapsedTimeLabel.setText(DurationFormatter.format(finalTime));
     close();
   }
 
   public Optional<Duration> getElapsedTime() {
-    return this.timer.getElapsedTime();
-  }
-
-  private class TimerSubscriber implements Subscriber<Long> {
-    private final UI ui;
-    private Subscription subscription;
-    private Duration elapsedTime;
-
-    private TimerSubscriber(UI ui) {
-      this.ui = ui;
-    }
-
-    @Override
-    public void onSubscribe(Subscription subscription) {
-      this.subscription = subscription;
-      this.subscription.request(Long.MAX_VALUE);
-    }
-
-    @Override
-    public void onNext(Long item) {
-      this.elapsedTime = Duration.ofSeconds(item);
-      this.ui.access(() -> elapsedTimeLabel.setText(DurationFormatter.format(this.elapsedTime)));
-    }
-
-    @Override
-    public void onError(Throwable throwable) {
-      cancelGame();
-    }
-
-    @Override
-    public void onComplete() {
-      // Should never be called
-    }
-
-    private void shutdownSubsription() {
-      Optional.ofNullable(this.subscription)
-          .ifPresent(Subscription::cancel);
-    }
-
-    public void cancel() {
-      this.elapsedTime = null;
-      shutdownSubsription();
-    }
-
-    public void complete() {
-      shutdownSubsription();
-    }
-
-    public Optional<Duration> getElapsedTime() {
-      return Optional.ofNullable(this.elapsedTime);
-    }
+    return this.cancelled ? Optional.empty() : this.clock.getFinalTime();
   }
 }
@@ -5,6 +5,7 @@ import java.time.Duration;
 
 import io.quarkus.gamemanager.game.domain.PlayerDto;
 import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.gamemanager.ui.UiAccessExecutor;
 
 import com.vaadin.flow.component.ModalityMode;
 import com.vaadin.flow.component.UI;
@@ -35,12 +36,11 @@ public final class NewGameCountdownDialog extends Dialog {
 
     add(layout, progressBar);
 
-    UI ui = UI.getCurrent();
-
-    gameService.countDown(4, Duration.ofSeconds(1))
+    // Ticks are delivered inside ui.access by the shared timing wheel
+    gameService.countDown(4, Duration.ofSeconds(1), UiAccessExecutor.of(UI.getCurrentOrThrow()))
         .subscribe()
         .with(
-            count -> ui.access(() -> {
+            count -> {
               countDownLabel.setText(String.valueOf(count));
               progressBar.setValue(count);
 
@@ -49,8 +49,8 @@ public final class NewGameCountdownDialog extends Dialog {
                 case 2 -> label.setText("Set!");
                 case 1 -> label.setText("GO!!!");
               }
-            }),
-            () -> ui.access(this::close)
+            },
+            this::close
         );
   }
 }
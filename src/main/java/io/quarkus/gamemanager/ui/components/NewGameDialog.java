@@ -1,11 +1,13 @@
 package io.quarkus.gamemanager.ui.components;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 
 import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.domain.PlayerStats;
 
 import com.vaadin.flow.component.Key;
 import com.vaadin.flow.component.ModalityMode;
@@ -28,10 +30,15 @@ public final class NewGameDialog extends Dialog {
   private final EmailField emailField = new EmailField("Email");
   private final Binder<PlayerForm> binder = new BeanValidationBinder<>(PlayerForm.class);
   private final PlayerForm player = new PlayerForm();
+  private final Function<String, Optional<PlayerStats>> playerLookup;
   private PlayerDto newPlayer;
 
-  public NewGameDialog() {
+  /**
+   * @param playerLookup Finds a returning player by email, so their name can be filled in for them
+   */
+  public NewGameDialog(Function<String, Optional<PlayerStats>> playerLookup) {
     super("New Game");
+    this.playerLookup = playerLookup;
     setModality(ModalityMode.STRICT);
     setResizable(true);
     setCloseOnEsc(true);
@@ -59,7 +66,8 @@ public final class NewGameDialog extends Dialog {
     var emailRow = new FormRow();
     emailRow.add(this.emailField, 2);
 
-    layout.add(nameRow, emailRow);
+    // Email comes first, so returning players only have to type that
+    layout.add(emailRow, nameRow);
     add(layout);
 
     var cancelButton = new Button("Cancel", event -> close());
@@ -73,8 +81,32 @@ public final class NewGameDialog extends Dialog {
 
     getFooter().add(buttonLayout);
     createBindings();
+    this.emailField.addValueChangeListener(event -> recogniseReturningPlayer(event.getValue()));
 
-    this.firstNameField.focus();
+    this.emailField.focus();
+  }
+
+  private void recogniseReturningPlayer(String email) {
+    var stats = this.emailField.isInvalid() ?
+        Optional.<PlayerStats>empty() :
+        this.playerLookup.apply(email);
+
+    stats.ifPresentOrElse(
+        playerStats -> {
+          if (this.firstNameField.isEmpty() && this.lastNameField.isEmpty()) {
+            this.firstNameField.setValue(playerStats.player().firstName());
+            this.lastNameField.setValue(playerStats.player().lastName());
+          }
+
+          this.emailField.setHelperText("Welcome back %s! %d %s so far, personal best %s".formatted(
+              playerStats.player().firstName(),
+              playerStats.attempts(),
+              (playerStats.attempts() == 1) ? "game" : "games",
+              DurationFormatter.format(playerStats.personalBest())
+          ));
+        },
+        () -> this.emailField.setHelperText(null)
+    );
   }
 
   private void createBindings() {
@@ -0,0 +1,65 @@
+package io.quarkus.gamemanager.ui.components;
+
+import java.util.Optional;
+
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.station.domain.Station;
+import io.quarkus.gamemanager.station.service.StationService;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+
+public final class StationStatusBar extends HorizontalLayout {
+  private final StationService stationService;
+  private Runnable stateListenerRegistration;
+
+  public StationStatusBar(StationService stationService) {
+    this.stationService = stationService;
+
+    setSpacing(true);
+    setAlignItems(Alignment.CENTER);
+  }
+
+  @Override
+  protected void onAttach(AttachEvent attachEvent) {
+    super.onAttach(attachEvent);
+    var ui = attachEvent.getUI();
+    this.stateListenerRegistration = this.stationService.addStateListener(_ -> ui.access(this::refresh));
+    refresh();
+  }
+
+  @Override
+  protected void onDetach(DetachEvent detachEvent) {
+    super.onDetach(detachEvent);
+    Optional.ofNullable(this.stateListenerRegistration)
+        .ifPresent(Runnable::run);
+  }
+
+  public void refresh() {
+    removeAll();
+    this.stationService.getStations()
+        .stream()
+        .map(StationStatusBar::createBadge)
+        .forEach(this::add);
+  }
+
+  private static Span createBadge(Station station) {
+    var player = station.getPlayer()
+        .map(PlayerDto::firstName)
+        .map(" (%s)"::formatted)
+        .orElse("");
+
+    var badge = new Span("%s: %s%s".formatted(station.getName(), station.getState().getLabel(), player));
+    badge.getElement().getThemeList().add(
+        switch (station.getState()) {
+          case IDLE -> "badge success";
+          case SETTING_UP -> "badge contrast";
+          case IN_PLAY -> "badge";
+        }
+    );
+
+    return badge;
+  }
+}
@@ -0,0 +1,144 @@
+package io.quarkus.gamemanager.ui.views;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import io.quarkus.gamemanager.game.domain.PhaseStatistics;
+import io.quarkus.gamemanager.game.domain.PhaseTiming;
+import io.quarkus.gamemanager.game.domain.SetupTimeline;
+import io.quarkus.gamemanager.game.service.GameSetupTracker;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.dom.Style.Position;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+
+@PageTitle("Game Setups")
+@Route("admin/setups")
+public final class GameSetupsView extends VerticalLayout {
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy h:mm:ss a");
+  private static final String[] PHASE_COLORS = {
+      "var(--lumo-primary-color)",
+      "var(--lumo-success-color)",
+      "var(--lumo-warning-color)",
+      "var(--lumo-error-color)",
+      "var(--lumo-contrast-50pct)",
+      "var(--lumo-primary-color-50pct)",
+      "var(--lumo-success-color-50pct)",
+      "var(--lumo-error-color-50pct)",
+      "var(--lumo-contrast-30pct)"
+  };
+
+  private final GameSetupTracker gameSetupTracker;
+  private final Grid<PhaseStatistics> statisticsGrid = new Grid<>(PhaseStatistics.class, false);
+  private final Grid<SetupTimeline> setupsGrid = new Grid<>(SetupTimeline.class, false);
+
+  public GameSetupsView(GameSetupTracker gameSetupTracker) {
+    this.gameSetupTracker = gameSetupTracker;
+
+    var refreshButton = new Button(VaadinIcon.REFRESH.create(), _ -> refresh());
+    refreshButton.setTooltipText("Refresh");
+
+    add(new HorizontalLayout(refreshButton, new H3("Game Setups")));
+    add(new H4("Phase durations"), createStatisticsGrid());
+    add(new H4("Most recent setups"), createSetupsGrid());
+
+    setPadding(true);
+    setSizeFull();
+    refresh();
+  }
+
+  private void refresh() {
+    this.statisticsGrid.setItems(this.gameSetupTracker.getPhaseStatistics());
+    this.setupsGrid.setItems(this.gameSetupTracker.getRecentSetups());
+  }
+
+  private Grid<PhaseStatistics> createStatisticsGrid() {
+    this.statisticsGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES, GridVariant.LUMO_COMPACT);
+    this.statisticsGrid.setAllRowsVisible(true);
+    this.statisticsGrid.addColumn(statistics -> statistics.phase().getLabel()).setHeader("Phase");
+    this.statisticsGrid.addColumn(PhaseStatistics::count).setHeader("Count");
+    this.statisticsGrid.addColumn(statistics -> format(statistics.p50())).setHeader("p50");
+    this.statisticsGrid.addColumn(statistics -> format(statistics.p95())).setHeader("p95");
+
+    return this.statisticsGrid;
+  }
+
+  private Grid<SetupTimeline> createSetupsGrid() {
+    this.setupsGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+    this.setupsGrid.addColumn(setup -> DATE_TIME_FORMATTER.format(setup.startedAt().atZone(ZoneId.systemDefault())))
+        .setHeader("Started")
+        .setAutoWidth(true)
+        .setFlexGrow(0);
+    this.setupsGrid.addColumn(SetupTimeline::station).setHeader("Station").setAutoWidth(true).setFlexGrow(0);
+    this.setupsGrid.addColumn(SetupTimeline::player).setHeader("Player").setAutoWidth(true).setFlexGrow(0);
+    this.setupsGrid.addColumn(setup -> setup.successful() ? "Success" : "Failure").setHeader("Outcome").setAutoWidth(true).setFlexGrow(0);
+    this.setupsGrid.addColumn(setup -> format(setup.total())).setHeader("Total").setAutoWidth(true).setFlexGrow(0);
+    this.setupsGrid.addColumn(setup -> format(setup.concurrencySavings())).setHeader("Saved by overlap").setAutoWidth(true).setFlexGrow(0);
+    this.setupsGrid.addColumn(new ComponentRenderer<>(GameSetupsView::createTimeline))
+        .setHeader("Timeline")
+        .setFlexGrow(1);
+
+    return this.setupsGrid;
+  }
+
+  private static Div createTimeline(SetupTimeline setup) {
+    var timeline = new Div();
+    timeline.setWidthFull();
+    timeline.getStyle()
+        .setPosition(Position.RELATIVE)
+        .setHeight("1.2em")
+        .setBackground("var(--lumo-contrast-5pct)");
+
+    var totalNanos = Math.max(setup.total().toNanos(), 1);
+    setup.phases()
+        .stream()
+        .map(phase -> createTimelineSegment(phase, setup.isOnCriticalPath(phase), totalNanos))
+        .forEach(timeline::add);
+
+    return timeline;
+  }
+
+  private static Div createTimelineSegment(PhaseTiming phase, boolean onCriticalPath, long totalNanos) {
+    var segment = new Div();
+    segment.setTitle("%s: %s%s%s".formatted(
+        phase.phase().getLabel(),
+        format(phase.duration()),
+        phase.successful() ? "" : " (failed)",
+        onCriticalPath ? " (critical path)" : ""
+    ));
+    segment.getStyle()
+        .setPosition(Position.ABSOLUTE)
+        .setTop("0")
+        .setHeight("100%")
+        .setLeft(String.format(Locale.ROOT, "%.2f%%", 100.0 * phase.offset().toNanos() / totalNanos))
+        .setWidth(String.format(Locale.ROOT, "max(2px, %.2f%%)", 100.0 * phase.duration().toNanos() / totalNanos))
+        .setBackground(PHASE_COLORS[phase.phase().ordinal() % PHASE_COLORS.length]);
+
+    // Phases running concurrently overlap, so only the critical path is drawn full height
+    if (!onCriticalPath) {
+      segment.getStyle()
+          .setTop("25%")
+          .setHeight("50%")
+          .set("opacity", "0.6");
+    }
+
+    return segment;
+  }
+
+  private static String format(Duration duration) {
+    var seconds = "%d.%03ds".formatted(duration.toSecondsPart(), duration.toMillisPart());
+    return (duration.toMinutes() > 0) ? "%dm %s".formatted(duration.toMinutes(), seconds) : seconds;
+  }
+}
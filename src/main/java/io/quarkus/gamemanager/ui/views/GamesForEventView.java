@@ -6,7 +6,6 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -14,15 +13,25 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import jakarta.ws.rs.ClientErrorException;
+
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
 import io.quarkus.gamemanager.event.domain.EventDto;
+import io.quarkus.gamemanager.game.domain.ExportFormat;
 import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.GamePage;
 import io.quarkus.gamemanager.game.domain.PlayerDto;
 import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.gamemanager.leaderboard.service.CompletionTimeSketches;
+import io.quarkus.gamemanager.station.domain.Station;
+import io.quarkus.gamemanager.station.service.StationService;
 import io.quarkus.gamemanager.ui.GameBroadcaster;
 import io.quarkus.gamemanager.ui.components.DurationFormatter;
 import io.quarkus.gamemanager.ui.components.GameUnderwayDialog;
 import io.quarkus.gamemanager.ui.components.NewGameCountdownDialog;
 import io.quarkus.gamemanager.ui.components.NewGameDialog;
+import io.quarkus.gamemanager.ui.components.StationStatusBar;
 import io.quarkus.gamemanager.ui.events.GameAddedEvent;
 import io.quarkus.gamemanager.ui.events.GamesDeletedEvent;
 import io.quarkus.logging.Log;
@@ -38,7 +47,10 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.Grid.SelectionMode;
 import com.vaadin.flow.component.grid.GridSortOrder;
 import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.html.AnchorTarget;
 import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.Notification.Position;
@@ -54,19 +66,33 @@ import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 import com.vaadin.flow.data.renderer.LocalDateTimeRenderer;
 import com.vaadin.flow.data.selection.SelectionEvent;
+import io.smallrye.mutiny.Uni;
 
 public final class GamesForEventView extends VerticalLayout {
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG);
   private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy h:mm:ss a");
+  private static final Duration PREFETCH_TIMEOUT = Duration.ofSeconds(5);
+
+  // With paging on the grid asks for one page of this many games at a time, starting at 0, which is what gets prefetched
+  private static final int PAGE_SIZE = 50;
 
   private final GameService gameService;
+  private final GameArchiveService gameArchiveService;
+  private final CompletionTimeSketches completionTimeSketches;
+  private final BlockingOperations blockingOperations;
+  private final StationService stationService;
   private final GameBroadcaster gameBroadcaster;
   private final Grid<Game> grid;
   private final Button refreshGamesButton = new Button(VaadinIcon.REFRESH.create());
   private final Button addGameButton = new Button(VaadinIcon.PLUS.create());
   private final Button removeGamesButton = new Button(VaadinIcon.TRASH.create());
+  private final Button archiveEventButton = new Button(VaadinIcon.ARCHIVE.create());
+  private final Anchor exportCsvLink = createExportLink(ExportFormat.CSV);
+  private final Anchor exportNdjsonLink = createExportLink(ExportFormat.NDJSON);
+  private final Anchor displayLink = createDisplayLink();
   private final H4 gridLabel = new H4("Leaderboard");
   private final Select<LocalDate> gameDateFilter = new Select<>("Game Dates Filter");
+  private final GamePages gamePages = new GamePages();
   private EventDto currentEvent = null;
 
   private record Game(int rowNum, GameDto gameDto) {
@@ -87,8 +113,12 @@ public final class GamesForEventView extends VerticalLayout {
     }
   }
 
-  public GamesForEventView(GameService gameService, GameBroadcaster gameBroadcaster) {
+  public GamesForEventView(GameService gameService, GameArchiveService gameArchiveService, CompletionTimeSketches completionTimeSketches, BlockingOperations blockingOperations, StationService stationService, GameBroadcaster gameBroadcaster) {
     this.gameService = gameService;
+    this.gameArchiveService = gameArchiveService;
+    this.completionTimeSketches = completionTimeSketches;
+    this.blockingOperations = blockingOperations;
+    this.stationService = stationService;
     this.gameBroadcaster = gameBroadcaster;
     this.refreshGamesButton.addClickListener(_ -> refreshGrid());
     this.removeGamesButton.setEnabled(false);
@@ -98,16 +128,19 @@ public final class GamesForEventView extends VerticalLayout {
     this.removeGamesButton.addClickListener(_ -> handleRemoveSelectedGames());
     this.removeGamesButton.addThemeVariants(ButtonVariant.LUMO_ERROR);
     this.removeGamesButton.setEnabled(false);
+    this.archiveEventButton.addClickListener(_ -> handleArchiveEvent());
+    this.archiveEventButton.setTooltipText("Archive the event's games");
+    this.archiveEventButton.setEnabled(false);
 
     createGameDateFilter();
     this.gameDateFilter.setWidth("fit-content");
 
 //    var spacer = new Div();
 //    spacer.getStyle().setFlexGrow("1");
-    var topBar = new HorizontalLayout(this.refreshGamesButton, this.addGameButton, this.removeGamesButton, this.gameDateFilter);
+    var topBar = new HorizontalLayout(this.refreshGamesButton, this.addGameButton, this.removeGamesButton, this.archiveEventButton, this.gameDateFilter, this.exportCsvLink, this.exportNdjsonLink, this.displayLink);
     topBar.setWidthFull();
     topBar.setAlignItems(Alignment.BASELINE);
-    add(topBar);
+    add(topBar, new StationStatusBar(this.stationService));
 
     this.grid = createGrid();
     this.grid.setDataProvider(DataProvider.fromFilteringCallbacks(new GameFetchCallback(), new GameSizeCallback()).withConfigurableFilter());
@@ -133,7 +166,8 @@ public final class GamesForEventView extends VerticalLayout {
   private void gridDataChanged(DataChangeEvent<Game> gameDataChangeEvent) {
     Optional.ofNullable(this.currentEvent)
         .ifPresent(event -> {
-          var size = gameDataChangeEvent.getSource().size(new Query<>());
+          // Answered from the page the grid fetches (or is about to fetch) for its current filter
+          var size = this.gamePages.total(event.id(), Optional.ofNullable(this.gameDateFilter.getValue()));
           var gameLabel = (size == 1) ? "game" : "games";
           gridLabel.setText("Leaderboard for '%s' (%d %s)".formatted(event.name(), size, gameLabel));
         });
@@ -171,7 +205,7 @@ public final class GamesForEventView extends VerticalLayout {
 
   private void handleGridRowsSelected(SelectionEvent<Grid<Game>, Game> event) {
     var eventSelected = !event.getAllSelectedItems().isEmpty();
-    this.removeGamesButton.setEnabled(eventSelected);
+    this.removeGamesButton.setEnabled(eventSelected && !isCurrentEventArchived());
     this.grid.setEmptyStateText(this.currentEvent.games().isEmpty() ? "No games found for event '%s'".formatted(this.currentEvent.name()) : "");
   }
 
@@ -204,8 +238,47 @@ public final class GamesForEventView extends VerticalLayout {
     confirmDialog.open();
   }
 
+  private void handleArchiveEvent() {
+    var confirmDialog = new ConfirmDialog(
+        "Archive event?",
+        "Archived games are moved out of the database into a read-only file. No more games can be added to the event afterwards.",
+        "Archive",
+        _ -> {
+          try {
+            this.gameArchiveService.archiveEvent(this.currentEvent.id());
+          }
+          // e.g. the event isn't over yet, or was deleted in the meantime
+          catch (ClientErrorException e) {
+            Notification.show(e.getMessage(), 3000, Position.MIDDLE);
+            return;
+          }
+
+          this.addGameButton.setEnabled(false);
+          this.archiveEventButton.setEnabled(false);
+          this.removeGamesButton.setEnabled(false);
+          Notification.show("Event '%s' archived".formatted(this.currentEvent.name()), 3000, Position.MIDDLE);
+          refreshGrid();
+        },
+        "Cancel",
+        _ -> {}
+    );
+
+    confirmDialog.open();
+  }
+
+  // Only events that are over in their own time zone can be archived
+  private static boolean isOver(EventDto event) {
+    return event.eventDate().isBefore(LocalDate.now(event.timeZone()));
+  }
+
+  private boolean isCurrentEventArchived() {
+    return Optional.ofNullable(this.currentEvent)
+        .map(event -> this.gameArchiveService.isArchived(event.id()))
+        .orElse(false);
+  }
+
   private void handleNewGame() {
-    var newGameDialog = new NewGameDialog();
+    var newGameDialog = new NewGameDialog(this.gameService::findPlayerStats);
     newGameDialog.addOpenedChangeListener(event -> {
       if (!event.isOpened()) {
         newGameDialog.getPlayer()
@@ -216,11 +289,11 @@ public final class GamesForEventView extends VerticalLayout {
     newGameDialog.open();
   }
 
-  private void newGameStarted(PlayerDto player) {
+  private void newGameStarted(PlayerDto player, Station station) {
     var newGameDialog = new NewGameCountdownDialog(player, this.gameService);
     newGameDialog.addOpenedChangeListener(event -> {
       if (!event.isOpened()) {
-        startGame(player);
+        startGame(player, station);
       }
     });
 
@@ -229,21 +302,54 @@ public final class GamesForEventView extends VerticalLayout {
 
   private void setUpGame(PlayerDto player) {
     Log.infof("Setting up game for player: %s", player);
-    var notification = Notification.show("Setting up game...Please wait...", 0, Position.MIDDLE, true);
     UI ui = UI.getCurrentOrThrow();
+    var cancelButton = new Button("Cancel");
+    var notificationLayout = new HorizontalLayout(new Span("Setting up game...Please wait..."), cancelButton);
+    notificationLayout.setAlignItems(Alignment.CENTER);
+
+    var notification = new Notification(notificationLayout);
+    notification.setPosition(Position.MIDDLE);
+    notification.setDuration(0);
+    notification.setAssertive(true);
 
-    this.gameService.setUpNewGame()
+    var setup = this.gameService.setUpNewGame(player)
         .subscribe()
-        .with(_ -> ui.access(() -> {
-          notification.close();
-          newGameStarted(player);
-        }));
+        .with(
+            station -> ui.access(() -> {
+              notification.close();
+              newGameStarted(player, station);
+            }),
+            failure -> ui.access(() -> {
+              Log.errorf(failure, "Unable to set up game for player: %s", player);
+              notification.close();
+              Notification.show("Unable to set up game: %s".formatted(failure.getMessage()), 5000, Position.MIDDLE);
+            })
+        );
+
+    // Abort the setup if the player walks away or the browser goes away, so the station is freed straight away
+    var detachRegistration = addDetachListener(_ -> setup.cancel());
+    notification.addOpenedChangeListener(event -> {
+      if (!event.isOpened()) {
+        detachRegistration.remove();
+      }
+    });
+
+    cancelButton.addClickListener(_ -> {
+      Log.infof("Game setup for player %s cancelled", player);
+      setup.cancel();
+      notification.close();
+      Notification.show("Game setup cancelled", 3000, Position.MIDDLE);
+    });
+
+    notification.open();
   }
 
-  private void startGame(PlayerDto player) {
+  private void startGame(PlayerDto player, Station station) {
     var gameUnderwayDialog = new GameUnderwayDialog(player, this.gameService);
     gameUnderwayDialog.addOpenedChangeListener(event -> {
       if (!event.isOpened()) {
+        this.stationService.release(station);
+
         gameUnderwayDialog.getElapsedTime()
             .ifPresentOrElse(
                 elapsedTime -> endGame(player, elapsedTime),
@@ -259,26 +365,20 @@ public final class GamesForEventView extends VerticalLayout {
       Notification.show("Game cancelled");
     }
     else {
-      var topScore = this.grid.getLazyDataView().getItems()
-          .sorted(Comparator.comparing(Game::timeToComplete))
-          .findFirst();
+      var savedGame = this.gameService.addGame(new GameDto(player, this.currentEvent.id(), elapsedTime));
 
-      var isNewHighScore = topScore.isEmpty() || topScore
-          .filter(game -> elapsedTime.compareTo(game.timeToComplete()) <= 0)
-          .map(g -> true)
-          .orElse(false);
+      // Ranked once the game is committed, so it is in the event's sketch and ranks the same as it will for anyone later
+      var standing = this.completionTimeSketches.getStanding(this.currentEvent.id(), elapsedTime);
 
-      if (isNewHighScore) {
+      if (savedGame.newBestTime()) {
         Notification.show("Great job %s! You've got the top time!".formatted(player.firstName()), 3000, Position.MIDDLE);
       }
       else {
-        Notification.show("Sooooo close!", 3000, Position.MIDDLE);
+        Notification.show("Sooooo close! You were faster than %d%% of games".formatted(standing.getFasterThanPercent()), 3000, Position.MIDDLE);
       }
 
-      var newGame = new GameDto(player, this.currentEvent.id(), elapsedTime);
-      var savedGame = this.gameService.addGame(newGame);
       refreshGrid();
-      this.gameBroadcaster.fireEvent(new GameAddedEvent(getUI().get(), savedGame, isNewHighScore));
+      this.gameBroadcaster.fireEvent(new GameAddedEvent(getUI().get(), savedGame.game(), savedGame.newBestTime()));
     }
   }
 
@@ -292,6 +392,69 @@ public final class GamesForEventView extends VerticalLayout {
     this.gameDateFilter.setEmptySelectionCaption("All Games");
   }
 
+  // Plain links, so the browser downloads the export straight from the export endpoint, without going through the UI
+  private static Anchor createExportLink(ExportFormat format) {
+    var button = new Button(format.name(), VaadinIcon.DOWNLOAD.create());
+    button.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+    button.setTooltipText("Export the leaderboard as %s".formatted(format.name()));
+
+    var link = new Anchor();
+    link.add(button);
+    link.setRouterIgnore(true);
+    link.getElement().setAttribute("download", true);
+    link.setEnabled(false);
+
+    return link;
+  }
+
+  // Opens the event's read-only big-screen leaderboard in a new tab
+  private static Anchor createDisplayLink() {
+    var button = new Button(VaadinIcon.DESKTOP.create());
+    button.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+    button.setTooltipText("Open the big-screen leaderboard");
+
+    var link = new Anchor();
+    link.add(button);
+    link.setTarget(AnchorTarget.BLANK);
+    link.setEnabled(false);
+
+    return link;
+  }
+
+  private void updateDisplayLink() {
+    Optional.ofNullable(this.currentEvent)
+        .ifPresentOrElse(
+            event -> {
+              this.displayLink.setHref("/leaderboard/%d".formatted(event.id()));
+              this.displayLink.setEnabled(true);
+            },
+            () -> this.displayLink.setEnabled(false)
+        );
+  }
+
+  private void updateExportLinks(LocalDate gameDateFilterValue) {
+    updateExportLink(this.exportCsvLink, ExportFormat.CSV, gameDateFilterValue);
+    updateExportLink(this.exportNdjsonLink, ExportFormat.NDJSON, gameDateFilterValue);
+  }
+
+  private void updateExportLink(Anchor link, ExportFormat format, LocalDate gameDateFilterValue) {
+    Optional.ofNullable(this.currentEvent)
+        .ifPresentOrElse(
+            event -> {
+              // Exports stream straight out of the games table, which no longer holds an archived event's games
+              if (this.gameArchiveService.isArchived(event.id())) {
+                link.setEnabled(false);
+                return;
+              }
+
+              var day = Optional.ofNullable(gameDateFilterValue).map("&day=%s"::formatted).orElse("");
+              link.setHref("/events/%d/games/export?format=%s%s".formatted(event.id(), format.getExtension(), day));
+              link.setEnabled(true);
+            },
+            () -> link.setEnabled(false)
+        );
+  }
+
   private void filterByGameDate(LocalDate filter) {
     refreshGrid(filter);
   }
@@ -306,7 +469,9 @@ public final class GamesForEventView extends VerticalLayout {
     Optional.ofNullable(this.currentEvent)
         .ifPresentOrElse(
             e -> {
-              addGameButton.setEnabled(true);
+              var archived = this.gameArchiveService.isArchived(e.id());
+              addGameButton.setEnabled(!archived);
+              archiveEventButton.setEnabled(!archived && isOver(e));
               refreshGamesButton.setEnabled(true);
               gridLabel.setText("Leaderboard for '%s'".formatted(e.name()));
 
@@ -316,12 +481,16 @@ public final class GamesForEventView extends VerticalLayout {
             },
             () -> {
               addGameButton.setEnabled(false);
+              archiveEventButton.setEnabled(false);
               refreshGamesButton.setEnabled(false);
               gridLabel.setText("Leaderboard");
               this.grid.setEmptyStateText("No event selected.");
             }
         );
 
+    updateExportLinks(gameDateFilterValue);
+    updateDisplayLink();
+    this.gamePages.clear();
     ((ConfigurableFilterDataProvider<Game, Void, LocalDate>) this.grid.getDataProvider())
         .setFilter(gameDateFilterValue);
 
@@ -330,13 +499,62 @@ public final class GamesForEventView extends VerticalLayout {
   }
 
   public void setEvent(EventDto event) {
+    var ui = UI.getCurrentOrThrow();
     this.currentEvent = event;
-    refreshGrid();
+    this.gridLabel.setText("Loading leaderboard for '%s'...".formatted(event.name()));
+
+    prefetch(event.id())
+        .subscribe()
+        .with(_ -> ui.access(() -> {
+          // Another event may have been picked in the meantime, which refreshes the grid itself
+          if (this.currentEvent == event) {
+            refreshGrid();
+          }
+        }));
+  }
+
+  /**
+   * Loads the first two pages of games (each with the total), the game dates and their count all at once, each on its
+   * own virtual thread, into the shared query cache. The grid is refreshed once they are there, so rendering finds
+   * them in the cache instead of waiting on the database for one query after the other, and the UI thread never waits
+   * on the prefetch. If prefetching fails or takes too long the grid simply queries as usual.
+   */
+  private Uni<Void> prefetch(Long eventId) {
+    var filter = Optional.ofNullable(this.gameDateFilter.getValue());
+    var sort = GameFetchCallback.createSort(currentSortOrders()).orElse(null);
+
+    return Uni.join().all(
+            this.blockingOperations.call(() -> this.gameService.getGamePage(eventId, sort, filter, 0, PAGE_SIZE)),
+            this.blockingOperations.call(() -> this.gameService.getGamePage(eventId, sort, filter, PAGE_SIZE, PAGE_SIZE)),
+            this.blockingOperations.call(() -> this.gameService.getGameDatesForEvent(eventId).toList()),
+            this.blockingOperations.call(() -> this.gameService.countGameDatesForEvent(eventId))
+        )
+        .andFailFast()
+        .ifNoItem().after(PREFETCH_TIMEOUT).fail()
+        .onFailure().invoke(failure -> Log.warnf(failure, "Unable to prefetch the games of event %d", eventId))
+        .onFailure().recoverWithNull()
+        .replaceWithVoid();
+  }
+
+  // The sort orders the grid's next query will come with
+  private List<QuerySortOrder> currentSortOrders() {
+    return this.grid.getSortOrder()
+        .stream()
+        .flatMap(order -> order.getSorted().getSortOrder(order.getDirection()))
+        .toList();
+  }
+
+  // Game dates are shown in the event's time zone, the same zone the game date filter's days are in
+  private ZoneId getTimeZone() {
+    return Optional.ofNullable(this.currentEvent)
+        .map(EventDto::timeZone)
+        .orElseGet(ZoneId::systemDefault);
   }
 
   private Grid<Game> createGrid() {
     var grid = new Grid<>(Game.class, false);
     grid.setSelectionMode(SelectionMode.MULTI);
+    grid.setPageSize(PAGE_SIZE);
     grid.setColumnReorderingAllowed(true);
     grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
     grid.setEmptyStateText("No event selected.");
@@ -364,7 +582,7 @@ public final class GamesForEventView extends VerticalLayout {
         .setSortProperty("player.lastName");
 
     grid.addColumn(new LocalDateTimeRenderer<>(
-        game -> Optional.ofNullable(game).map(Game::gameDate).map(date -> date.atZone(ZoneId.systemDefault()).toLocalDateTime()).orElse(null),
+        game -> Optional.ofNullable(game).map(Game::gameDate).map(date -> date.atZone(getTimeZone()).toLocalDateTime()).orElse(null),
             () -> DATE_TIME_FORMATTER
         ))
         .setHeader("Game Date")
@@ -400,22 +618,53 @@ public final class GamesForEventView extends VerticalLayout {
     }
   }
 
+  /**
+   * Every page comes with the total number of games, so the count Vaadin asks for before fetching the first page, and
+   * again whenever the data changes, is answered from the page fetched along with it rather than by another query.
+   * Cleared whenever the grid is refreshed.
+   */
+  private final class GamePages {
+    private PageKey cachedKey;
+    private GamePage<GameDto> cachedPage;
+
+    private void clear() {
+      this.cachedKey = null;
+      this.cachedPage = null;
+    }
+
+    private long total(Long eventId, Optional<LocalDate> filter) {
+      if ((this.cachedPage != null) && this.cachedKey.eventId().equals(eventId) && this.cachedKey.filter().equals(filter)) {
+        return this.cachedPage.total();
+      }
+
+      // Prefetch the first page the grid is about to ask for
+      return page(eventId, filter, currentSortOrders(), 0, PAGE_SIZE).total();
+    }
+
+    private GamePage<GameDto> page(Long eventId, Optional<LocalDate> filter, List<QuerySortOrder> sortOrders, int offset, int limit) {
+      var key = new PageKey(eventId, filter, sortOrders.stream().map(order -> "%s %s".formatted(order.getSorted(), order.getDirection())).toList(), offset, limit);
+
+      if (!key.equals(this.cachedKey)) {
+        this.cachedPage = gameService.getGamePage(eventId, GameFetchCallback.createSort(sortOrders).orElse(null), filter, offset, limit);
+        this.cachedKey = key;
+      }
+
+      return this.cachedPage;
+    }
+  }
+
+  private record PageKey(Long eventId, Optional<LocalDate> filter, List<String> sortOrders, int offset, int limit) {
+  }
+
   private class GameFetchCallback implements FetchCallback<Game, LocalDate> {
     @Override
     public Stream<Game> fetch(Query<Game, LocalDate> query) {
-      // Satisfy Vaadin's contract even though we aren't supporting filtering or pagination
-      query.getLimit();
-      query.getOffset();
-
-      Log.infof("Fetching games for query with filter: %s", query.getFilter());
+      Log.infof("Fetching games %d - %d for query with filter: %s", query.getOffset(), query.getOffset() + query.getLimit(), query.getFilter());
 
-      var rowIndex = new AtomicInteger(1);
+      var rowIndex = new AtomicInteger(query.getOffset() + 1);
 
       return Optional.ofNullable(currentEvent)
-          .map(e -> createSort(query.getSortOrders())
-              .map(sort -> gameService.getGames(e.id(), sort, query.getFilter()))
-              .orElseGet(() -> gameService.getGames(e.id(), null, query.getFilter()))
-          )
+          .map(e -> gamePages.page(e.id(), query.getFilter(), query.getSortOrders(), query.getOffset(), query.getLimit()).games())
           .map(List::stream)
           .orElseGet(Stream::empty)
           .map(gameDto -> new Game(rowIndex.getAndIncrement(), gameDto));
@@ -462,7 +711,7 @@ public final class GamesForEventView extends VerticalLayout {
     @Override
     public int count(Query<Game, LocalDate> query) {
       return Optional.ofNullable(currentEvent)
-          .map(e -> (int) gameService.countGamesForEvent(e.id(), query.getFilter()))
+          .map(e -> (int) gamePages.total(e.id(), query.getFilter()))
           .orElse(0);
     }
   }
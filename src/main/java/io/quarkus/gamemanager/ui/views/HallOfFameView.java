@@ -0,0 +1,97 @@
+package io.quarkus.gamemanager.ui.views;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.IntStream;
+
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardEntry;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardScope;
+import io.quarkus.gamemanager.leaderboard.service.HallOfFameService;
+import io.quarkus.gamemanager.ui.GameBroadcaster;
+import io.quarkus.gamemanager.ui.components.DurationFormatter;
+import io.quarkus.gamemanager.ui.events.GameAddedEvent;
+import io.quarkus.gamemanager.ui.events.GamesDeletedEvent;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+
+@PageTitle("Hall of Fame")
+@Route("hall-of-fame")
+public final class HallOfFameView extends VerticalLayout {
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+
+  private final HallOfFameService hallOfFameService;
+  private final GameBroadcaster gameBroadcaster;
+  private final Select<LeaderboardScope> scopeSelector = new Select<>();
+  private final Grid<RankedEntry> grid = new Grid<>(RankedEntry.class, false);
+
+  public HallOfFameView(HallOfFameService hallOfFameService, GameBroadcaster gameBroadcaster) {
+    this.hallOfFameService = hallOfFameService;
+    this.gameBroadcaster = gameBroadcaster;
+
+    var refreshButton = new Button(VaadinIcon.REFRESH.create(), _ -> refresh());
+    refreshButton.setTooltipText("Refresh");
+
+    this.scopeSelector.setItems(this.hallOfFameService.getScopes());
+    this.scopeSelector.setValue(LeaderboardScope.ALL_TIME);
+    this.scopeSelector.addValueChangeListener(_ -> refresh());
+
+    var header = new HorizontalLayout(refreshButton, new H3("Hall of Fame"), this.scopeSelector);
+    header.setAlignItems(Alignment.BASELINE);
+
+    add(header, createGrid());
+    setPadding(true);
+    setSizeFull();
+    refresh();
+  }
+
+  @Override
+  protected void onAttach(AttachEvent attachEvent) {
+    super.onAttach(attachEvent);
+    var ui = attachEvent.getUI();
+    this.gameBroadcaster.register(GameAddedEvent.class, _ -> refresh(ui), this);
+    this.gameBroadcaster.register(GamesDeletedEvent.class, _ -> refresh(ui), this);
+  }
+
+  private void refresh(UI ui) {
+    ui.access(this::refresh);
+  }
+
+  private void refresh() {
+    var leaderboard = this.hallOfFameService.getLeaderboard(this.scopeSelector.getValue());
+    this.grid.setItems(
+        IntStream.range(0, leaderboard.size())
+            .mapToObj(index -> new RankedEntry(index + 1, leaderboard.get(index)))
+            .toList()
+    );
+  }
+
+  private Grid<RankedEntry> createGrid() {
+    this.grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+    this.grid.setEmptyStateText("No games played yet");
+    this.grid.addColumn(RankedEntry::rank)
+        .setHeader("Rank")
+        .setAutoWidth(true)
+        .setFlexGrow(0);
+    this.grid.addColumn(ranked -> "%s %s".formatted(ranked.entry().player().firstName(), ranked.entry().player().lastName())).setHeader("Player");
+    this.grid.addColumn(ranked -> DurationFormatter.format(ranked.entry().timeToComplete())).setHeader("Time to Complete");
+    this.grid.addColumn(ranked -> ranked.entry().eventName()).setHeader("Event");
+    this.grid.addColumn(ranked -> DATE_FORMATTER.format(ranked.entry().gameDate().atZone(ZoneId.systemDefault()))).setHeader("Game Date");
+
+    return this.grid;
+  }
+
+  private record RankedEntry(int rank, LeaderboardEntry entry) {
+  }
+}
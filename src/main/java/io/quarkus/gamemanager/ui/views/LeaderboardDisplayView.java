@@ -0,0 +1,85 @@
+package io.quarkus.gamemanager.ui.views;
+
+import java.util.Optional;
+
+import io.quarkus.gamemanager.event.service.EventService;
+import io.quarkus.gamemanager.ui.LiveLeaderboards;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.JsModule;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.NotFoundException;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * A read-only leaderboard of one event for the booth's big screens, e.g. {@code /leaderboard/42?top=10} or
+ * {@code /leaderboard/42?scroll=true}. It is rendered in the browser from the event's shared {@link LiveLeaderboards}
+ * snapshot and the changes pushed after it, so all a display keeps on the server is this one element.
+ */
+@PageTitle("Leaderboard")
+@Route("leaderboard")
+@Tag("leaderboard-display")
+@JsModule("./leaderboard-display.js")
+public final class LeaderboardDisplayView extends Component implements HasUrlParameter<Long> {
+  private final EventService eventService;
+  private final LiveLeaderboards liveLeaderboards;
+  private Long eventId;
+  private Registration subscription;
+
+  public LeaderboardDisplayView(EventService eventService, LiveLeaderboards liveLeaderboards) {
+    this.eventService = eventService;
+    this.liveLeaderboards = liveLeaderboards;
+  }
+
+  @Override
+  public void setParameter(BeforeEvent event, Long eventId) {
+    var eventName = this.eventService.findEventName(eventId);
+
+    if (eventName.isEmpty()) {
+      event.rerouteToError(NotFoundException.class, "Event %d can not be found".formatted(eventId));
+      return;
+    }
+
+    var parameters = event.getLocation().getQueryParameters();
+    this.eventId = eventId;
+    getElement().setProperty("heading", "Leaderboard for '%s'".formatted(eventName.get()));
+    getElement().setProperty("top", parseTop(parameters.getSingleParameter("top")));
+    getElement().setProperty("scroll", parameters.getSingleParameter("scroll").map(Boolean::parseBoolean).orElse(false));
+  }
+
+  // The URL is typed in by hand on a booth screen, so anything that isn't a sensible number shows the whole leaderboard
+  static int parseTop(Optional<String> top) {
+    try {
+      return top.map(String::strip)
+          .map(Integer::parseInt)
+          .map(t -> Math.max(t, 0))
+          .orElse(0);
+    }
+    catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  @Override
+  protected void onAttach(AttachEvent attachEvent) {
+    super.onAttach(attachEvent);
+    var ui = attachEvent.getUI();
+    this.subscription = this.liveLeaderboards.subscribe(this.eventId, message -> ui.access(() -> getElement().callJsFunction("apply", message)));
+  }
+
+  @Override
+  protected void onDetach(DetachEvent detachEvent) {
+    super.onDetach(detachEvent);
+
+    if (this.subscription != null) {
+      this.subscription.remove();
+      this.subscription = null;
+    }
+  }
+}
@@ -0,0 +1,7 @@
+create extension if not exists pg_trgm;
+
+-- Event names are looked up case-insensitively, so that is how they have to be unique
+create unique index if not exists idx_event_lower_name on events (lower(name));
+
+-- Serves both substring (like '%...%') and fuzzy (<%) searches on the lower-cased name
+create index if not exists idx_event_lower_name_trgm on events using gin (lower(name) gin_trgm_ops);
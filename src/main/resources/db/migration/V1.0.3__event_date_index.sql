@@ -0,0 +1,2 @@
+-- Backs both the event date range filter and keyset pagination, which orders by (event_date, id)
+create index if not exists idx_event_event_date_id on events (event_date, id);
@@ -0,0 +1,44 @@
+-- Games are always queried for a single event, so the table is list partitioned by event_id.
+-- Every event gets its own partition (games_event_<event id>), created and dropped by the application along with the
+-- event. Anything without a partition of its own lands in games_default.
+
+alter table games rename to games_unpartitioned;
+alter table games_unpartitioned drop constraint games_event_id_fkey;
+alter index idx_game_game_date rename to idx_game_unpartitioned_game_date;
+
+create table games (
+		time_to_complete numeric(21,0) not null,
+		event_id bigint not null,
+		game_date timestamp(6) with time zone not null,
+		id bigint not null,
+		email varchar(255),
+		first_name varchar(255) not null,
+		last_name varchar(255) not null,
+		-- The partition key has to be part of the primary key
+		primary key (id, event_id)
+) partition by list (event_id);
+
+alter table games
+	 add constraint games_event_id_fkey
+	 foreign key (event_id)
+	 references events
+	 on delete cascade;
+
+create index if not exists idx_game_game_date on games (game_date);
+
+create table games_default partition of games default;
+
+do $$
+declare
+	event_row record;
+begin
+	for event_row in select id from events loop
+		execute format('create table if not exists %I partition of games for values in (%s)', 'games_event_' || event_row.id, event_row.id);
+	end loop;
+end $$;
+
+insert into games (time_to_complete, event_id, game_date, id, email, first_name, last_name)
+	 select time_to_complete, event_id, game_date, id, email, first_name, last_name
+	 from games_unpartitioned;
+
+drop table games_unpartitioned;
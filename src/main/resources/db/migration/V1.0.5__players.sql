@@ -0,0 +1,53 @@
+-- Players used to be embedded in every games row. They now live in their own table, keyed by their normalised
+-- (trimmed, lower cased) email, and games reference them by id.
+
+create sequence if not exists players_seq start with 1 increment by 1;
+
+create table if not exists players (
+		id bigint not null,
+		email varchar(255) unique,
+		first_name varchar(255) not null,
+		last_name varchar(255) not null,
+		primary key (id)
+);
+
+alter table games add column player_id bigint;
+
+-- One player per distinct email, named after their most recent game
+insert into players (id, email, first_name, last_name)
+	 select nextval('players_seq'), email, first_name, last_name
+	 from (
+		 select distinct on (lower(trim(email))) lower(trim(email)) as email, first_name, last_name
+		 from games
+		 where nullif(trim(email), '') is not null
+		 order by lower(trim(email)), game_date desc
+	 ) latest;
+
+update games g
+	 set player_id = p.id
+	 from players p
+	 where p.email = lower(trim(g.email));
+
+-- Without an email there is no way to tell who is who, so every such game gets a player of its own
+update games
+	 set player_id = nextval('players_seq')
+	 where player_id is null;
+
+insert into players (id, email, first_name, last_name)
+	 select player_id, null, first_name, last_name
+	 from games
+	 where player_id not in (select id from players);
+
+alter table games alter column player_id set not null;
+
+alter table games
+	 add constraint games_player_id_fkey
+	 foreign key (player_id)
+	 references players;
+
+alter table games drop column email;
+alter table games drop column first_name;
+alter table games drop column last_name;
+
+-- Attempts and personal bests per player
+create index if not exists idx_game_player_time_to_complete on games (player_id, time_to_complete);
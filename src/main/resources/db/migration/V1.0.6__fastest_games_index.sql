@@ -0,0 +1,3 @@
+-- The hall of fame loads the fastest games across all events (optionally within a year) on startup. With this index
+-- that is an ordered merge of each partition's index instead of a sort of the whole table.
+create index if not exists idx_game_time_to_complete_id on games (time_to_complete, id);
@@ -0,0 +1,20 @@
+-- Completion times used to be stored as numeric(21,0) nanoseconds, an arbitrary precision type that is slower to
+-- compare, sort and index than a native integer. They are now bigint milliseconds, which is plenty for a game that
+-- takes minutes.
+
+alter table games add column time_ms bigint;
+
+update games set time_ms = div(time_to_complete, 1000000);
+
+alter table games alter column time_ms set not null;
+
+drop index if exists idx_game_player_time_to_complete;
+drop index if exists idx_game_time_to_complete_id;
+alter table games drop column time_to_complete;
+
+-- The per-event leaderboard, sorted by time with the id as tie breaker, and the event's best time
+create index if not exists idx_game_event_time_ms_id on games (event_id, time_ms, id);
+-- Attempts and personal bests per player
+create index if not exists idx_game_player_time_ms on games (player_id, time_ms);
+-- The hall of fame's fastest games across all events
+create index if not exists idx_game_time_ms_id on games (time_ms, id);
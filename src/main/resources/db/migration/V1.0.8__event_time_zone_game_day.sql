@@ -0,0 +1,38 @@
+-- Every event now has a time zone, and every game stores the day it was played on in its event's time zone. Date
+-- filters and the list of game days used to mix JVM and database time zones and couldn't use an index.
+
+alter table events add column time_zone varchar(64);
+
+-- Existing events were filtered in the server's time zone
+update events set time_zone = current_setting('TimeZone');
+
+alter table events alter column time_zone set not null;
+
+alter table games add column game_day date;
+
+update games g
+	 set game_day = (g.game_date at time zone e.time_zone)::date
+	 from events e
+	 where e.id = g.event_id;
+
+alter table games alter column game_day set not null;
+
+-- game_date is set by the database on insert, so the day is too
+create or replace function set_game_day() returns trigger as $$
+begin
+	select (new.game_date at time zone e.time_zone)::date
+		into new.game_day
+		from events e
+		where e.id = new.event_id;
+
+	return new;
+end;
+$$ language plpgsql;
+
+-- Created on the partitioned table, so every partition (including those created later) gets it
+create trigger games_set_game_day
+	 before insert on games
+	 for each row
+	 execute function set_game_day();
+
+create index if not exists idx_game_event_game_day on games (event_id, game_day);
@@ -0,0 +1,21 @@
+-- Events that are over can have their games moved out of the games table into an archive file. What is left behind
+-- in the database is a summary of them.
+
+create table if not exists event_archives (
+		event_id bigint not null,
+		event_name varchar(255) not null,
+		games bigint not null,
+		best_time_ms bigint,
+		first_game_date timestamp(6) with time zone,
+		last_game_date timestamp(6) with time zone,
+		archived_at timestamp(6) with time zone not null,
+		file_name varchar(255) not null,
+		file_size bigint not null,
+		primary key (event_id)
+);
+
+alter table if exists event_archives
+	 add constraint event_archives_event_id_fkey
+	 foreign key (event_id)
+	 references events
+	 on delete cascade;
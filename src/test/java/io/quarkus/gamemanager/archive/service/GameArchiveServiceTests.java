@@ -0,0 +1,122 @@
+package io.quarkus.gamemanager.archive.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.NotAcceptableException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.archive.config.ArchiveConfig;
+import io.quarkus.gamemanager.event.domain.jpa.Event;
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.repository.GameRepository;
+import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class GameArchiveServiceTests {
+  @Inject
+  GameArchiveService gameArchiveService;
+
+  @Inject
+  GameService gameService;
+
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  GameRepository gameRepository;
+
+  @Inject
+  ArchiveConfig archiveConfig;
+
+  private Event event;
+
+  @BeforeEach
+  void beforeEach() {
+    this.event = EventTestHelper.createEvent().withEventDate(LocalDate.now().minusDays(1));
+    this.event.getGames().getFirst().setTimeToComplete(Duration.ofMillis(20_123));
+    this.event.getGames().getLast().setTimeToComplete(Duration.ofMillis(10_456));
+
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.eventRepository.deleteAllWithCascade();
+      this.eventRepository.persistAndFlush(this.event);
+    });
+  }
+
+  @Test
+  void archivedGamesAreServedFromTheArchive() {
+    var eventId = this.event.getId();
+    var sort = Sort.by("timeToComplete").and("id");
+    var liveGames = this.gameService.getGamePage(eventId, sort, Optional.empty(), 0, 10);
+    var liveGameDays = this.gameService.getGameDatesForEvent(eventId).toList();
+
+    var archive = this.gameArchiveService.archiveEvent(eventId);
+
+    assertThat(archive.games()).isEqualTo(2);
+    assertThat(archive.bestTime()).isEqualTo(Duration.ofMillis(10_456));
+    assertThat(this.archiveConfig.dir().resolve("event-%d.games".formatted(eventId))).isRegularFile();
+    assertThat(this.gameArchiveService.isArchived(eventId)).isTrue();
+    assertThat(QuarkusTransaction.requiringNew().call(() -> this.gameRepository.count("event.id", eventId))).isZero();
+
+    var archivedGames = this.gameService.getGamePage(eventId, sort, Optional.empty(), 0, 10);
+    assertThat(archivedGames.total()).isEqualTo(liveGames.total());
+    assertThat(archivedGames.games()).containsExactlyElementsOf(liveGames.games());
+    assertThat(this.gameService.getGameDatesForEvent(eventId).toList()).isEqualTo(liveGameDays);
+    assertThat(this.gameService.countGamesForEvent(eventId, Optional.of(liveGameDays.getFirst()))).isEqualTo(2);
+    assertThat(this.gameService.getGamePage(eventId, sort, Optional.empty(), 1, 10).games())
+        .singleElement()
+        .extracting(GameDto::timeToComplete)
+        .isEqualTo(Duration.ofMillis(20_123));
+  }
+
+  @Test
+  void archivingTwiceDoesNothing() {
+    var archive = this.gameArchiveService.archiveEvent(this.event.getId());
+
+    assertThat(this.gameArchiveService.archiveEvent(this.event.getId())).isEqualTo(archive);
+  }
+
+  @Test
+  void archivingAnUnknownEvent() {
+    assertThatExceptionOfType(NotFoundException.class)
+        .isThrownBy(() -> this.gameArchiveService.archiveEvent(-1L));
+  }
+
+  @Test
+  void eventsThatArentOverCantBeArchived() {
+    var today = EventTestHelper.createEvent();
+    QuarkusTransaction.requiringNew().run(() -> this.eventRepository.persistAndFlush(today));
+
+    assertThatExceptionOfType(ClientErrorException.class)
+        .isThrownBy(() -> this.gameArchiveService.archiveEvent(today.getId()))
+        .satisfies(e -> assertThat(e.getResponse().getStatus()).isEqualTo(Status.CONFLICT.getStatusCode()));
+
+    assertThat(this.gameArchiveService.isArchived(today.getId())).isFalse();
+    assertThat(QuarkusTransaction.requiringNew().call(() -> this.gameRepository.count("event.id", today.getId()))).isEqualTo(2);
+  }
+
+  @Test
+  void noGamesCanBeAddedToAnArchivedEvent() {
+    this.gameArchiveService.archiveEvent(this.event.getId());
+    var game = new GameDto(new PlayerDto("Archie", "Ved", "archie@example.com"), this.event.getId(), Duration.ofSeconds(5));
+
+    assertThatExceptionOfType(NotAcceptableException.class)
+        .isThrownBy(() -> this.gameService.addGame(game));
+  }
+}
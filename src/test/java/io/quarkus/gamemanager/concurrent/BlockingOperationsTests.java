@@ -0,0 +1,66 @@
+package io.quarkus.gamemanager.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BlockingOperationsTests {
+  private final BlockingOperations blockingOperations = new BlockingOperations(Executors.newVirtualThreadPerTaskExecutor());
+
+  @Test
+  void runsOnVirtualThread() {
+    var isVirtual = this.blockingOperations.call(() -> Thread.currentThread().isVirtual())
+        .await().atMost(Duration.ofSeconds(5));
+
+    assertThat(isVirtual).isTrue();
+  }
+
+  @Test
+  void pollsUntilReady() {
+    var attempts = new AtomicInteger();
+
+    this.blockingOperations.pollUntil("something", () -> attempts.incrementAndGet() >= 3, Duration.ZERO, Duration.ofMillis(10), Duration.ofSeconds(5))
+        .await().atMost(Duration.ofSeconds(5));
+
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  void pollingGivesUp() {
+    var poll = this.blockingOperations.pollUntil("never", () -> false, Duration.ZERO, Duration.ofMillis(10), Duration.ofMillis(50));
+
+    assertThatThrownBy(() -> poll.await().atMost(Duration.ofSeconds(5)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("never");
+  }
+
+  @Test
+  void cancellationInterrupts() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+
+    var cancellable = this.blockingOperations.run(() -> {
+          started.countDown();
+
+          try {
+            Thread.sleep(Duration.ofMinutes(1));
+          }
+          catch (InterruptedException e) {
+            interrupted.countDown();
+          }
+        })
+        .subscribe().with(_ -> {});
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    cancellable.cancel();
+
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.gamemanager.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimingWheelTests {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TimingWheel timingWheel = new TimingWheel(Duration.ofMillis(1), this.meterRegistry);
+
+  @AfterEach
+  void shutdown() {
+    this.timingWheel.shutdown();
+  }
+
+  @Test
+  void firesInDeadlineOrder() throws InterruptedException {
+    var fired = new CopyOnWriteArrayList<String>();
+    var done = new CountDownLatch(3);
+    Executor executor = Runnable::run;
+
+    // Longer than a whole first level, so these cascade down from the higher levels
+    this.timingWheel.schedule(executor, Duration.ofMillis(300), () -> { fired.add("third"); done.countDown(); });
+    this.timingWheel.schedule(executor, Duration.ofMillis(10), () -> { fired.add("first"); done.countDown(); });
+    this.timingWheel.schedule(executor, Duration.ofMillis(150), () -> { fired.add("second"); done.countDown(); });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(fired).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  void neverFiresEarly() throws InterruptedException {
+    var delay = Duration.ofMillis(100);
+    var done = new CountDownLatch(1);
+    var start = System.nanoTime();
+    var firedAfter = new AtomicInteger();
+
+    this.timingWheel.schedule(Runnable::run, delay, () -> {
+      firedAfter.set((int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      done.countDown();
+    });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(firedAfter.get()).isGreaterThanOrEqualTo(100);
+  }
+
+  @Test
+  void batchesPerExecutor() throws InterruptedException {
+    var batches = new CopyOnWriteArrayList<Integer>();
+    var tasksRun = new AtomicInteger();
+    var done = new CountDownLatch(1);
+    Executor executor = command -> {
+      var before = tasksRun.get();
+      command.run();
+      batches.add(tasksRun.get() - before);
+      done.countDown();
+    };
+
+    // A coarse tick so that timeouts scheduled back to back land on the same tick
+    var meterRegistry = new SimpleMeterRegistry();
+    var coarseTimingWheel = new TimingWheel(Duration.ofMillis(100), meterRegistry);
+
+    try {
+      List.of(1, 2, 3).forEach(_ -> coarseTimingWheel.schedule(executor, Duration.ofMillis(150), tasksRun::incrementAndGet));
+
+      assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(batches).first().isEqualTo(3);
+      assertThat(meterRegistry.get("timing.wheel.batches").counter().count()).isEqualTo(1);
+    }
+    finally {
+      coarseTimingWheel.shutdown();
+    }
+  }
+
+  @Test
+  void periodicUntilCancelled() throws InterruptedException {
+    var runs = new AtomicInteger();
+    var threeRuns = new CountDownLatch(3);
+    var timeout = this.timingWheel.schedulePeriodically(Runnable::run, Duration.ofMillis(5), () -> {
+      runs.incrementAndGet();
+      threeRuns.countDown();
+    });
+
+    assertThat(threeRuns.await(5, TimeUnit.SECONDS)).isTrue();
+    timeout.cancel();
+    TimeUnit.MILLISECONDS.sleep(20);
+    var runsAfterCancel = runs.get();
+    TimeUnit.MILLISECONDS.sleep(50);
+
+    assertThat(runs).hasValue(runsAfterCancel);
+    assertThat(this.timingWheel.getScheduledCount()).isZero();
+  }
+}
@@ -0,0 +1,85 @@
+package io.quarkus.gamemanager.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.JDBCConnectionException;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.datasource.config.ReadReplicaConfig;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadRouterTests {
+  private final Session primarySession = mock(Session.class);
+  private final EntityManager primary = primary(this.primarySession);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ReadRouter readRouter = new ReadRouter(this.primary, mock(SessionFactory.class, RETURNS_DEEP_STUBS), readDataSource(), readReplicaConfig(), this.meterRegistry);
+
+  @Test
+  void failedReplicaReadsFallBackToThePrimary() {
+    var result = this.readRouter.read(ReadRouter.EVENTS_KEY, entityManager -> {
+      if (entityManager != this.primary) {
+        throw new JDBCConnectionException("Replica went away", null);
+      }
+
+      return "from the primary";
+    });
+
+    assertThat(result).isEqualTo("from the primary");
+    assertThat(this.meterRegistry.counter("datasource.reads", "target", "primary").count()).isOne();
+    assertThat(this.meterRegistry.counter("datasource.reads", "target", "replica").count()).isZero();
+  }
+
+  @Test
+  void primaryReadsAreReadOnly() {
+    this.readRouter.recordWrite(ReadRouter.EVENTS_KEY);
+
+    var result = this.readRouter.read(ReadRouter.EVENTS_KEY, _ -> {
+      verify(this.primarySession).setDefaultReadOnly(true);
+      return "from the primary";
+    });
+
+    assertThat(result).isEqualTo("from the primary");
+    verify(this.primarySession).setDefaultReadOnly(false);
+  }
+
+  private static EntityManager primary(Session session) {
+    var primary = mock(EntityManager.class);
+    when(primary.unwrap(Session.class)).thenReturn(session);
+
+    return primary;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Instance<AgroalDataSource> readDataSource() {
+    var dataSources = mock(Instance.class);
+    var readDataSource = mock(Instance.class);
+
+    when(dataSources.select(any())).thenReturn(readDataSource);
+    when(readDataSource.isResolvable()).thenReturn(true);
+    when(readDataSource.get()).thenReturn(mock(AgroalDataSource.class));
+
+    return dataSources;
+  }
+
+  private static ReadReplicaConfig readReplicaConfig() {
+    var config = mock(ReadReplicaConfig.class);
+    when(config.enabled()).thenReturn(true);
+    when(config.readYourWritesWindow()).thenReturn(Duration.ofSeconds(5));
+
+    return config;
+  }
+}
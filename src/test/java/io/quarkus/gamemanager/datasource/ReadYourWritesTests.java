@@ -0,0 +1,32 @@
+package io.quarkus.gamemanager.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ReadYourWritesTests {
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), this.nanoTime::get);
+
+  @Test
+  void recentWritesGoToThePrimary() {
+    assertThat(this.readYourWrites.isRecentlyWritten("event:1")).isFalse();
+
+    this.readYourWrites.recordWrite("event:1");
+    this.nanoTime.addAndGet(Duration.ofSeconds(4).toNanos());
+
+    assertThat(this.readYourWrites.isRecentlyWritten("event:1")).isTrue();
+    assertThat(this.readYourWrites.isRecentlyWritten("event:2")).isFalse();
+  }
+
+  @Test
+  void writesExpire() {
+    this.readYourWrites.recordWrite("event:1");
+    this.nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertThat(this.readYourWrites.isRecentlyWritten("event:1")).isFalse();
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 import jakarta.inject.Inject;
@@ -29,7 +30,7 @@ class EventMapperTests {
   void mappingToDto() {
     var fakeData = new Faker();
     var player = new Player(fakeData.name().firstName(), fakeData.name().lastName(), fakeData.internet().emailAddress());
-    var expectedPlayer = new PlayerDto(player.firstName(), player.lastName(), player.email());
+    var expectedPlayer = new PlayerDto(player.getFirstName(), player.getLastName(), player.getEmail());
     var game = new Game()
         .withId((long) fakeData.number().positive())
         .withPlayer(player)
@@ -41,6 +42,7 @@ class EventMapperTests {
         .withName(fakeData.lorem().characters(10, 20))
         .withDescription(fakeData.lorem().sentence())
         .withEventDate(LocalDate.now())
+        .withTimeZone(ZoneId.of("America/New_York"))
         .withGame(game);
 
     game.setEvent(event);
@@ -58,6 +60,7 @@ class EventMapperTests {
         event.getEventDate(),
         event.getName(),
         event.getDescription(),
+        event.getTimeZone(),
         List.of(expectedGame)
     );
 
@@ -85,6 +88,7 @@ class EventMapperTests {
         LocalDate.now(),
         fakeData.lorem().characters(10, 20),
         fakeData.lorem().sentence(),
+        ZoneId.of("Europe/Amsterdam"),
         List.of(game)
     );
 
@@ -98,6 +102,7 @@ class EventMapperTests {
         .withName(event.name())
         .withDescription(event.description())
         .withEventDate(event.eventDate())
+        .withTimeZone(event.timeZone())
         .withGame(expectedGame)
         .withId(event.id());
 
@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.gamemanager.event.domain.EventQuery;
 import io.quarkus.gamemanager.event.domain.jpa.Event;
 import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
 import io.quarkus.gamemanager.game.domain.jpa.Game;
@@ -51,6 +52,25 @@ class EventRepositoryTests {
         .hasValue(event);
   }
 
+  @Test
+  void fuzzySearchRanksClosestMatchFirst() {
+    var devNexus = EventTestHelper.createEvent().withName("DevNexus Fuzzy");
+    var other = EventTestHelper.createEvent().withName("Devoxx Fuzzy");
+    this.eventRepository.persist(devNexus, other);
+    this.eventRepository.flush();
+
+    assertThat(this.eventRepository.getEvents(new EventQuery(null, null, null, "devnexs", null, null)))
+        .contains(devNexus)
+        .doesNotContain(other)
+        .allSatisfy(event -> assertThat(event.getName()).startsWithIgnoringCase("DevNexus"));
+  }
+
+  @Test
+  void fuzzySearchNoMatch() {
+    assertThat(this.eventRepository.getEvents(new EventQuery(null, null, null, "zzqqxx", null, null)))
+        .isEmpty();
+  }
+
   @Test
   void deleteAllWithCascade() {
     this.eventRepository.deleteAllWithCascade();
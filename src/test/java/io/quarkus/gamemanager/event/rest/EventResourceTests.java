@@ -1,16 +1,24 @@
 package io.quarkus.gamemanager.event.rest;
 
 import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.LocalDate;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.Response.Status;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
 import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
 import io.quarkus.gamemanager.event.repository.EventRepository;
 import io.quarkus.narayana.jta.QuarkusTransaction;
@@ -23,6 +31,9 @@ class EventResourceTests {
   @Inject
   EventRepository eventRepository;
 
+  @Inject
+  GameArchiveService gameArchiveService;
+
   @BeforeEach
   @Transactional
   void beforeEach() {
@@ -54,16 +65,16 @@ class EventResourceTests {
         .body("[0].eventDate", is(event1.getEventDate().toString()))
         .body("[0].games.size()", is(2))
         .body("[0].games[0].id", is(event1.getGames().getFirst().getId().intValue()))
-        .body("[0].games[0].player.firstName", is(event1.getGames().getFirst().getPlayer().firstName()))
-        .body("[0].games[0].player.lastName", is(event1.getGames().getFirst().getPlayer().lastName()))
-        .body("[0].games[0].player.email", is(event1.getGames().getFirst().getPlayer().email()))
+        .body("[0].games[0].player.firstName", is(event1.getGames().getFirst().getPlayer().getFirstName()))
+        .body("[0].games[0].player.lastName", is(event1.getGames().getFirst().getPlayer().getLastName()))
+        .body("[0].games[0].player.email", is(event1.getGames().getFirst().getPlayer().getEmail()))
         .body("[0].games[0].eventId", is(event1.getId().intValue()))
         .body("[0].games[0].gameDate", is(event1.getGames().getFirst().getGameDate().toString()))
         .body("[0].games[0].timeToComplete", is((float) event1.getGames().getFirst().getTimeToComplete().getSeconds()))
         .body("[0].games[1].id", is(event1.getGames().getLast().getId().intValue()))
-        .body("[0].games[1].player.firstName", is(event1.getGames().getLast().getPlayer().firstName()))
-        .body("[0].games[1].player.lastName", is(event1.getGames().getLast().getPlayer().lastName()))
-        .body("[0].games[1].player.email", is(event1.getGames().getLast().getPlayer().email()))
+        .body("[0].games[1].player.firstName", is(event1.getGames().getLast().getPlayer().getFirstName()))
+        .body("[0].games[1].player.lastName", is(event1.getGames().getLast().getPlayer().getLastName()))
+        .body("[0].games[1].player.email", is(event1.getGames().getLast().getPlayer().getEmail()))
         .body("[0].games[1].eventId", is(event1.getId().intValue()))
         .body("[0].games[1].gameDate", is(event1.getGames().getLast().getGameDate().toString()))
         .body("[0].games[1].timeToComplete", is((float) event1.getGames().getLast().getTimeToComplete().getSeconds()))
@@ -73,18 +84,97 @@ class EventResourceTests {
         .body("[1].eventDate", is(event2.getEventDate().toString()))
         .body("[1].games.size()", is(2))
         .body("[1].games[0].id", is(event2.getGames().getFirst().getId().intValue()))
-        .body("[1].games[0].player.firstName", is(event2.getGames().getFirst().getPlayer().firstName()))
-        .body("[1].games[0].player.lastName", is(event2.getGames().getFirst().getPlayer().lastName()))
-        .body("[1].games[0].player.email", is(event2.getGames().getFirst().getPlayer().email()))
+        .body("[1].games[0].player.firstName", is(event2.getGames().getFirst().getPlayer().getFirstName()))
+        .body("[1].games[0].player.lastName", is(event2.getGames().getFirst().getPlayer().getLastName()))
+        .body("[1].games[0].player.email", is(event2.getGames().getFirst().getPlayer().getEmail()))
         .body("[1].games[0].eventId", is(event2.getId().intValue()))
         .body("[1].games[0].gameDate", is(event2.getGames().getFirst().getGameDate().toString()))
         .body("[1].games[0].timeToComplete", is((float) event2.getGames().getFirst().getTimeToComplete().getSeconds()))
         .body("[1].games[1].id", is(event2.getGames().getLast().getId().intValue()))
-        .body("[1].games[1].player.firstName", is(event2.getGames().getLast().getPlayer().firstName()))
-        .body("[1].games[1].player.lastName", is(event2.getGames().getLast().getPlayer().lastName()))
-        .body("[1].games[1].player.email", is(event2.getGames().getLast().getPlayer().email()))
+        .body("[1].games[1].player.firstName", is(event2.getGames().getLast().getPlayer().getFirstName()))
+        .body("[1].games[1].player.lastName", is(event2.getGames().getLast().getPlayer().getLastName()))
+        .body("[1].games[1].player.email", is(event2.getGames().getLast().getPlayer().getEmail()))
         .body("[1].games[1].eventId", is(event2.getId().intValue()))
         .body("[1].games[1].gameDate", is(event2.getGames().getLast().getGameDate().toString()))
         .body("[1].games[1].timeToComplete", is((float) event2.getGames().getLast().getTimeToComplete().getSeconds()));
   }
-}
\ No newline at end of file
+
+  @Test
+  void pagesWithNextLink() {
+    var event1 = EventTestHelper.createEvent();
+    var event2 = EventTestHelper.createEvent();
+    var event3 = EventTestHelper.createEvent().withEventDate(LocalDate.now().plusDays(1));
+
+    QuarkusTransaction.requiringNew()
+        .run(() -> {
+          this.eventRepository.persist(event3, event1, event2);
+          this.eventRepository.flush();
+        });
+
+    var firstPage = get("/events?size=2").then()
+        .statusCode(Status.OK.getStatusCode())
+        .body("$.size()", is(2))
+        .body("[0].id", is(event1.getId().intValue()))
+        .body("[1].id", is(event2.getId().intValue()))
+        .header(HttpHeaders.LINK, containsString("rel=\"next\""))
+        .extract()
+        .response();
+
+    var nextUri = Link.valueOf(firstPage.getHeader(HttpHeaders.LINK)).getUri();
+
+    get(nextUri).then()
+        .statusCode(Status.OK.getStatusCode())
+        .body("$.size()", is(1))
+        .body("[0].id", is(event3.getId().intValue()))
+        .header(HttpHeaders.LINK, nullValue());
+  }
+
+  @Test
+  void filtersByDateRange() {
+    var today = EventTestHelper.createEvent();
+    var nextWeek = EventTestHelper.createEvent().withEventDate(LocalDate.now().plusWeeks(1));
+
+    QuarkusTransaction.requiringNew()
+        .run(() -> {
+          this.eventRepository.persist(today, nextWeek);
+          this.eventRepository.flush();
+        });
+
+    given()
+        .queryParam("start", LocalDate.now().plusDays(1).toString())
+        .when().get("/events")
+        .then()
+        .statusCode(Status.OK.getStatusCode())
+        .body("$.size()", is(1))
+        .body("[0].id", is(nextWeek.getId().intValue()));
+  }
+
+  @Test
+  void archivedEventsKeepTheirGames() {
+    var event = EventTestHelper.createEvent().withEventDate(LocalDate.now().minusDays(1));
+
+    QuarkusTransaction.requiringNew()
+        .run(() -> {
+          this.eventRepository.persist(event);
+          this.eventRepository.flush();
+        });
+
+    this.gameArchiveService.archiveEvent(event.getId());
+
+    get("/events").then()
+        .statusCode(Status.OK.getStatusCode())
+        .body("$.size()", is(1))
+        .body("[0].id", is(event.getId().intValue()))
+        .body("[0].games.size()", is(2))
+        .body("[0].games[0].id", is(event.getGames().getFirst().getId().intValue()))
+        .body("[0].games[0].player.email", is(event.getGames().getFirst().getPlayer().getEmail()))
+        .body("[0].games[0].eventId", is(event.getId().intValue()))
+        .body("[0].games[1].id", is(event.getGames().getLast().getId().intValue()));
+  }
+
+  @Test
+  void invalidCursor() {
+    get("/events?after=not-a-cursor").then()
+        .statusCode(Status.BAD_REQUEST.getStatusCode());
+  }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.gamemanager.event.rest;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Runs all of the events API tests against the reactive implementation
+ */
+@QuarkusTest
+@TestProfile(ReactiveEventResourceTests.ReactiveProfile.class)
+class ReactiveEventResourceTests extends EventResourceTests {
+  public static class ReactiveProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("game-manager.events-api.reactive", "true");
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package io.quarkus.gamemanager.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.concurrent.BlockingOperations;
+import io.quarkus.gamemanager.event.domain.EventPage;
+import io.quarkus.gamemanager.event.domain.EventQuery;
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Compares serving a burst of concurrent {@code GET /events} pages with Hibernate ORM on virtual threads against the
+ * reactive client on the event loop. Run with {@code ./mvnw test -Dbenchmark}.
+ */
+@QuarkusTest
+@Tag("benchmark")
+class EventPageBenchmarkTests {
+  private static final int EVENTS = 200;
+  private static final int CONCURRENT_REQUESTS = 2_000;
+  private static final EventQuery QUERY = new EventQuery(null, null, null, null, null, 50);
+
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  EventService eventService;
+
+  @Inject
+  ReactiveEventService reactiveEventService;
+
+  @Inject
+  BlockingOperations blockingOperations;
+
+  @BeforeEach
+  void beforeEach() {
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.eventRepository.deleteAllWithCascade();
+
+      IntStream.range(0, EVENTS)
+          .mapToObj(i -> EventTestHelper.createEvent()
+              .withName("Benchmark %d".formatted(i))
+              .withEventDate(LocalDate.now().plusDays(i)))
+          .forEach(this.eventRepository::persist);
+    });
+  }
+
+  @Test
+  void blockingVersusReactive() {
+    var blocking = measure("blocking", () -> this.blockingOperations.call(() -> this.eventService.getEventPage(QUERY)));
+    var reactive = measure("reactive", () -> this.reactiveEventService.getEventPage(QUERY));
+
+    Log.infof("The reactive path takes %.1f%% of the time the blocking path does", 100.0 * reactive.toNanos() / blocking.toNanos());
+  }
+
+  private Duration measure(String name, Supplier<Uni<EventPage>> request) {
+    // Warm up
+    burst(request);
+
+    var start = System.nanoTime();
+    burst(request);
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    Log.infof("%,d concurrent %s requests: %s (%,.0f requests/s)", CONCURRENT_REQUESTS, name, elapsed, CONCURRENT_REQUESTS / (elapsed.toNanos() / 1e9));
+    return elapsed;
+  }
+
+  private static void burst(Supplier<Uni<EventPage>> request) {
+    var pages = Multi.createFrom().range(0, CONCURRENT_REQUESTS)
+        .onItem().transformToUni(_ -> request.get()).merge(CONCURRENT_REQUESTS)
+        .collect().asList()
+        .await().atMost(Duration.ofMinutes(5));
+
+    assertThat(pages)
+        .hasSize(CONCURRENT_REQUESTS)
+        .allSatisfy(page -> assertThat(page.events()).hasSize(QUERY.getPageSize()));
+  }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.gamemanager.game.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class GameClockTests {
+  private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+  private final GameClock clock = new GameClock(this.nanoTime::get);
+
+  @Test
+  void millisecondPrecision() {
+    this.nanoTime.addAndGet(Duration.ofSeconds(42).plusMillis(317).plusNanos(999_999).toNanos());
+
+    assertThat(this.clock.elapsed()).isEqualTo(Duration.ofSeconds(42).plusMillis(317));
+    assertThat(this.clock.isStopped()).isFalse();
+    assertThat(this.clock.getFinalTime()).isEmpty();
+  }
+
+  @Test
+  void firstStopWins() {
+    this.nanoTime.addAndGet(Duration.ofMillis(1500).toNanos());
+    assertThat(this.clock.stop()).isEqualTo(Duration.ofMillis(1500));
+
+    this.nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    assertThat(this.clock.stop()).isEqualTo(Duration.ofMillis(1500));
+    assertThat(this.clock.elapsed()).isEqualTo(Duration.ofMillis(1500));
+    assertThat(this.clock.getFinalTime()).hasValue(Duration.ofMillis(1500));
+  }
+}
@@ -26,7 +26,7 @@ class GameMapperTests {
   void mappingToDto() {
     var fakeData = new Faker();
     var player = new Player(fakeData.name().firstName(), fakeData.name().lastName(), fakeData.internet().emailAddress());
-    var expectedPlayer = new PlayerDto(player.firstName(), player.lastName(), player.email());
+    var expectedPlayer = new PlayerDto(player.getFirstName(), player.getLastName(), player.getEmail());
     var game = new Game()
         .withId((long) fakeData.number().positive())
         .withPlayer(player)
@@ -57,7 +57,7 @@ class GameMapperTests {
   void mappingToEntity() {
     var fakeData = new Faker();
     var expectedPlayer = new Player(fakeData.name().firstName(), fakeData.name().lastName(), fakeData.internet().emailAddress());
-    var player = new PlayerDto(expectedPlayer.firstName(), expectedPlayer.lastName(), expectedPlayer.email());
+    var player = new PlayerDto(expectedPlayer.getFirstName(), expectedPlayer.getLastName(), expectedPlayer.getEmail());
     var game = new GameDto(
         (long) fakeData.number().positive(),
         player,
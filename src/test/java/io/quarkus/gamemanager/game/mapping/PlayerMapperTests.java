@@ -21,7 +21,7 @@ class PlayerMapperTests {
   void mappingToDto() {
     var fakeData = new Faker();
     var player = new Player(fakeData.name().firstName(), fakeData.name().lastName(), fakeData.internet().emailAddress());
-    var expected = new PlayerDto(player.firstName(), player.lastName(), player.email());
+    var expected = new PlayerDto(player.getFirstName(), player.getLastName(), player.getEmail());
 
     assertThat(this.mapper.toDto(player))
         .isNotNull()
@@ -0,0 +1,102 @@
+package io.quarkus.gamemanager.game.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Compares sorting completion times stored as {@code numeric(21,0)} nanoseconds (how they used to be stored) with
+ * {@code bigint} milliseconds, on a scratch table seeded with a million rows across 100 events.
+ * Run with {@code ./mvnw test -Dbenchmark}.
+ */
+@QuarkusTest
+@Tag("benchmark")
+class CompletionTimeSortBenchmarkTests {
+  private static final String TABLE = "completion_time_benchmark";
+  private static final int ROWS = 1_000_000;
+  private static final int EVENTS = 100;
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int ITERATIONS = 20;
+
+  @Inject
+  EntityManager entityManager;
+
+  @BeforeEach
+  void beforeEach() {
+    QuarkusTransaction.requiringNew().run(() -> {
+      execute("DROP TABLE IF EXISTS %s".formatted(TABLE));
+      execute("CREATE UNLOGGED TABLE %s (id bigint PRIMARY KEY, event_id bigint NOT NULL, time_nanos numeric(21,0) NOT NULL, time_ms bigint NOT NULL)".formatted(TABLE));
+      execute("""
+          INSERT INTO %s (id, event_id, time_nanos, time_ms)
+          SELECT i, i %% %d, t * 1000000, t
+          FROM (SELECT i, (random() * 600000)::bigint AS t FROM generate_series(1, %d) i) seeded""".formatted(TABLE, EVENTS, ROWS));
+      execute("CREATE INDEX ON %s (event_id, time_nanos, id)".formatted(TABLE));
+      execute("CREATE INDEX ON %s (event_id, time_ms, id)".formatted(TABLE));
+    });
+
+    QuarkusTransaction.requiringNew().run(() -> execute("ANALYZE %s".formatted(TABLE)));
+  }
+
+  @AfterEach
+  void afterEach() {
+    QuarkusTransaction.requiringNew().run(() -> execute("DROP TABLE IF EXISTS %s".formatted(TABLE)));
+  }
+
+  @Test
+  void numericNanosVersusBigintMillis() {
+    // Top of an event's leaderboard, read off the index
+    var nanosTop = measure("numeric top 10", "SELECT id FROM %s WHERE event_id = 42 ORDER BY time_nanos, id LIMIT 10");
+    var millisTop = measure("bigint top 10", "SELECT id FROM %s WHERE event_id = 42 ORDER BY time_ms, id LIMIT 10");
+
+    // A full sort of the table, as for a page deep into an unindexed ordering
+    var nanosSort = measure("numeric full sort", "SELECT id FROM %s ORDER BY time_nanos, id OFFSET 500000 LIMIT 10");
+    var millisSort = measure("bigint full sort", "SELECT id FROM %s ORDER BY time_ms, id OFFSET 500000 LIMIT 10");
+
+    Log.infof("bigint takes %.1f%% of the time of numeric for the top 10 and %.1f%% for a full sort",
+        100.0 * millisTop.toNanos() / nanosTop.toNanos(),
+        100.0 * millisSort.toNanos() / nanosSort.toNanos());
+
+    QuarkusTransaction.requiringNew().run(() ->
+        List.of("time_nanos", "time_ms").forEach(column ->
+            Log.infof("(event_id, %s, id) index: %,d bytes", column, ((Number) this.entityManager.createNativeQuery(
+                    "SELECT pg_relation_size(indexrelid) FROM pg_index i JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[1] WHERE i.indrelid = '%s'::regclass AND a.attname = '%s'".formatted(TABLE, column))
+                .getSingleResult()).longValue())
+        )
+    );
+  }
+
+  private Duration measure(String name, String sql) {
+    var query = sql.formatted(TABLE);
+
+    IntStream.range(0, WARMUP_ITERATIONS).forEach(_ -> assertThat(read(query)).hasSize(10));
+
+    var start = System.nanoTime();
+    IntStream.range(0, ITERATIONS).forEach(_ -> read(query));
+    var elapsed = Duration.ofNanos((System.nanoTime() - start) / ITERATIONS);
+
+    Log.infof("%s: %s per query", name, elapsed);
+    return elapsed;
+  }
+
+  private List<?> read(String sql) {
+    return QuarkusTransaction.requiringNew().call(() -> this.entityManager.createNativeQuery(sql).getResultList());
+  }
+
+  private void execute(String sql) {
+    this.entityManager.createNativeQuery(sql).executeUpdate();
+  }
+}
@@ -0,0 +1,118 @@
+package io.quarkus.gamemanager.game.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.event.domain.jpa.Event;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.domain.jpa.Player;
+import io.quarkus.gamemanager.game.mapping.GameMapper;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Compares reading 1,000 games as managed entities mapped to DTOs with projecting them straight into DTOs.
+ * Run with {@code ./mvnw test -Dbenchmark}.
+ */
+@QuarkusTest
+@Tag("benchmark")
+class GameReadBenchmarkTests {
+  private static final int GAMES = 1_000;
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int ITERATIONS = 100;
+  private static final Sort SORT = Sort.by("timeToComplete");
+
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  GameRepository gameRepository;
+
+  @Inject
+  GameMapper gameMapper;
+
+  private Long eventId;
+
+  @BeforeEach
+  void beforeEach() {
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.eventRepository.deleteAllWithCascade();
+
+      var event = new Event()
+          .withName("Benchmark")
+          .withDescription("Benchmark")
+          .withEventDate(LocalDate.now());
+      this.eventRepository.persistAndFlush(event);
+      this.gameRepository.createPartitionForEvent(event.getId());
+
+      IntStream.range(0, GAMES)
+          .mapToObj(i -> new Game()
+              .withPlayer(new Player("Player", "%d".formatted(i), "player%d@benchmark.com".formatted(i)))
+              .withTimeToComplete(Duration.ofMillis(10_000 + i)))
+          .forEach(event::withGame);
+
+      this.eventRepository.persistAndFlush(event);
+      this.eventId = event.getId();
+    });
+  }
+
+  @Test
+  void entitiesVersusProjections() {
+    var entities = measure("managed entities", () ->
+        this.gameRepository.getGamesForEvent(this.eventId, SORT, Optional.empty())
+            .stream()
+            .map(this.gameMapper::toDto)
+            .toList()
+    );
+
+    var projections = measure("DTO projections", () ->
+        this.gameRepository.getGameDtosForEvent(this.gameRepository.getEntityManager(), this.eventId, SORT, Optional.empty())
+    );
+
+    Log.infof("Projections allocate %.1f%% and take %.1f%% of what entities do",
+        100.0 * projections.bytes() / entities.bytes(),
+        100.0 * projections.nanos() / entities.nanos());
+  }
+
+  private Result measure(String name, Callable<List<GameDto>> read) {
+    var threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var threadId = Thread.currentThread().threadId();
+
+    IntStream.range(0, WARMUP_ITERATIONS).forEach(_ -> assertThat(QuarkusTransaction.requiringNew().call(read)).hasSize(GAMES));
+
+    var startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+    var startNanos = System.nanoTime();
+
+    IntStream.range(0, ITERATIONS).forEach(_ -> QuarkusTransaction.requiringNew().call(read));
+
+    var result = new Result(
+        (threadMXBean.getThreadAllocatedBytes(threadId) - startBytes) / ITERATIONS,
+        (System.nanoTime() - startNanos) / ITERATIONS
+    );
+
+    Log.infof("Reading %d games as %s: %,d bytes allocated, %s per read", GAMES, name, result.bytes(), Duration.ofNanos(result.nanos()));
+    return result;
+  }
+
+  private record Result(long bytes, long nanos) {
+  }
+}
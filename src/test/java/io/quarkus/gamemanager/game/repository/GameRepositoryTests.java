@@ -0,0 +1,128 @@
+package io.quarkus.gamemanager.game.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@TestTransaction
+class GameRepositoryTests {
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  GameRepository gameRepository;
+
+  @Test
+  void gamesLandInTheEventsPartition() {
+    var event = EventTestHelper.createEvent();
+    var games = List.copyOf(event.getGames());
+    event.setGames(List.of());
+    this.eventRepository.persistAndFlush(event);
+
+    this.gameRepository.createPartitionForEvent(event.getId());
+    games.forEach(event::withGame);
+    this.eventRepository.persistAndFlush(event);
+
+    assertThat(countRowsIn(GameRepository.partitionName(event.getId()))).isEqualTo(2);
+    assertThat(this.gameRepository.countGamesForEvent(event.getId(), Optional.empty())).isEqualTo(2);
+
+    this.gameRepository.dropPartitionForEvent(event.getId());
+    this.gameRepository.getEntityManager().clear();
+
+    assertThat(this.gameRepository.countGamesForEvent(event.getId(), Optional.empty())).isZero();
+  }
+
+  @Test
+  void pageComesWithTheTotal() {
+    var event = EventTestHelper.createEvent();
+    this.eventRepository.persistAndFlush(event);
+    var entityManager = this.gameRepository.getEntityManager();
+
+    var firstPage = this.gameRepository.getGamePageForEvent(entityManager, event.getId(), Sort.by("timeToComplete"), Optional.empty(), 0, 1);
+    assertThat(firstPage.total()).isEqualTo(2);
+    assertThat(firstPage.games()).hasSize(1);
+
+    var pastTheEnd = this.gameRepository.getGamePageForEvent(entityManager, event.getId(), null, Optional.empty(), 5, 1);
+    assertThat(pastTheEnd.total()).isEqualTo(2);
+    assertThat(pastTheEnd.games()).isEmpty();
+  }
+
+  @Test
+  void tiesAreBrokenById() {
+    var event = EventTestHelper.createEvent();
+    event.getGames().forEach(game -> game.setTimeToComplete(Duration.ofSeconds(30)));
+    this.eventRepository.persistAndFlush(event);
+    var entityManager = this.gameRepository.getEntityManager();
+
+    var gameIds = event.getGames().stream()
+        .map(game -> game.getId())
+        .sorted()
+        .toList();
+
+    var firstPage = this.gameRepository.getGamePageForEvent(entityManager, event.getId(), Sort.by("timeToComplete"), Optional.empty(), 0, 1);
+    var secondPage = this.gameRepository.getGamePageForEvent(entityManager, event.getId(), Sort.by("timeToComplete"), Optional.empty(), 1, 1);
+
+    assertThat(Stream.concat(firstPage.games().stream(), secondPage.games().stream()))
+        .extracting(game -> game.id())
+        .containsExactlyElementsOf(gameIds);
+  }
+
+  @Test
+  void completionTimesAreStoredInMilliseconds() {
+    var event = EventTestHelper.createEvent();
+    event.getGames().getFirst().setTimeToComplete(Duration.ofSeconds(12, 345_678_901));
+    this.eventRepository.persistAndFlush(event);
+
+    var gameId = event.getGames().getFirst().getId();
+    var stored = (Number) this.gameRepository.getEntityManager()
+        .createNativeQuery("SELECT time_ms FROM games WHERE id = :id")
+        .setParameter("id", gameId)
+        .getSingleResult();
+
+    assertThat(stored.longValue()).isEqualTo(12_345);
+
+    this.gameRepository.getEntityManager().clear();
+    assertThat(this.gameRepository.findById(gameId).getTimeToComplete()).isEqualTo(Duration.ofMillis(12_345));
+  }
+
+  @Test
+  void gameDayIsTakenInTheEventsTimeZone() {
+    // UTC+14 and UTC-11, at least one of which is on a different day than UTC at any time
+    var kiritimati = EventTestHelper.createEvent().withTimeZone(ZoneId.of("Pacific/Kiritimati"));
+    var niue = EventTestHelper.createEvent().withTimeZone(ZoneId.of("Pacific/Niue"));
+    this.eventRepository.persistAndFlush(kiritimati);
+    this.eventRepository.persistAndFlush(niue);
+
+    Stream.of(kiritimati, niue).forEach(event -> {
+      var game = event.getGames().getFirst();
+      var expectedDay = game.getGameDate().atZone(event.getTimeZone()).toLocalDate();
+
+      assertThat(game.getGameDay()).isEqualTo(expectedDay);
+      assertThat(this.gameRepository.getGameDatesOrderedChronologically(event.getId())).containsExactly(expectedDay);
+      assertThat(this.gameRepository.countGamesForEvent(event.getId(), Optional.of(expectedDay))).isEqualTo(2);
+      assertThat(this.gameRepository.countGamesForEvent(event.getId(), Optional.of(expectedDay.plusDays(1)))).isZero();
+    });
+  }
+
+  private long countRowsIn(String table) {
+    return ((Number) this.gameRepository.getEntityManager()
+        .createNativeQuery("SELECT COUNT(*) FROM %s".formatted(table))
+        .getSingleResult())
+        .longValue();
+  }
+}
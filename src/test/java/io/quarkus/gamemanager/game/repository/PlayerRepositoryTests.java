@@ -0,0 +1,79 @@
+package io.quarkus.gamemanager.game.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.domain.jpa.Player;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@TestTransaction
+class PlayerRepositoryTests {
+  @Inject
+  PlayerRepository playerRepository;
+
+  @Inject
+  GameRepository gameRepository;
+
+  @Inject
+  EventRepository eventRepository;
+
+  @Test
+  void findsByNormalisedEmail() {
+    var player = new Player("Jane", "Doe", "  Jane.Doe@Example.COM ");
+    this.playerRepository.persistAndFlush(player);
+
+    assertThat(player.getEmail()).isEqualTo("jane.doe@example.com");
+    assertThat(this.playerRepository.findByEmail("JANE.DOE@example.com")).hasValue(player);
+    assertThat(this.playerRepository.findByEmail("john.doe@example.com")).isEmpty();
+    assertThat(this.playerRepository.findByEmail(" ")).isEmpty();
+  }
+
+  @Test
+  void upsertByEmailRenamesReturningPlayers() {
+    var player = this.playerRepository.upsertByEmail(new Player("Jane", "Doe", "jane.doe@example.com"));
+    var returning = this.playerRepository.upsertByEmail(new Player("Janet", "Doe", " JANE.DOE@example.com"));
+
+    assertThat(returning.getId()).isEqualTo(player.getId());
+    assertThat(returning.getFirstName()).isEqualTo("Janet");
+    assertThat(this.playerRepository.count("email", "jane.doe@example.com")).isOne();
+
+    var anonymous = new Player("John", "Doe", null);
+    assertThat(this.playerRepository.upsertByEmail(anonymous)).isSameAs(anonymous);
+  }
+
+  @Test
+  void unsavedPlayersAreOnlyEqualToThemselves() {
+    var player = new Player("Jane", "Doe", "jane.doe@example.com");
+
+    assertThat(player).isEqualTo(player);
+    assertThat(player).isNotEqualTo(new Player("Jane", "Doe", "jane.doe@example.com"));
+  }
+
+  @Test
+  void attemptsAndPersonalBest() {
+    var event = EventTestHelper.createEvent();
+    var player = event.getGames().getFirst().getPlayer();
+    event.withGame(
+        new Game()
+            .withPlayer(player)
+            .withTimeToComplete(Duration.ofMillis(1))
+    );
+    this.eventRepository.persistAndFlush(event);
+
+    assertThat(this.gameRepository.countGamesForPlayer(player.getId())).isEqualTo(2);
+    assertThat(this.gameRepository.findPersonalBest(player.getId()))
+        .get()
+        .extracting(Game::getTimeToComplete)
+        .isEqualTo(Duration.ofMillis(1));
+  }
+}
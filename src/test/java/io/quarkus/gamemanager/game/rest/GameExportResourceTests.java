@@ -0,0 +1,115 @@
+package io.quarkus.gamemanager.game.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.archive.service.GameArchiveService;
+import io.quarkus.gamemanager.event.domain.jpa.Event;
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@QuarkusTest
+class GameExportResourceTests {
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  ObjectMapper objectMapper;
+
+  @Inject
+  GameArchiveService gameArchiveService;
+
+  private Event event;
+
+  @BeforeEach
+  void beforeEach() {
+    this.event = EventTestHelper.createEvent();
+    this.event.getGames().getFirst().setTimeToComplete(Duration.ofSeconds(20));
+    this.event.getGames().getLast().setTimeToComplete(Duration.ofSeconds(10));
+
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.eventRepository.deleteAllWithCascade();
+      this.eventRepository.persistAndFlush(this.event);
+    });
+  }
+
+  @Test
+  void exportsCsv() {
+    var csv = given()
+        .when().get("/events/{eventId}/games/export", this.event.getId())
+        .then()
+        .statusCode(Status.OK.getStatusCode())
+        .header("Content-Encoding", "gzip")
+        .header("Content-Disposition", "attachment; filename=\"event-%d-games.csv\"".formatted(this.event.getId()))
+        .extract()
+        .asString();
+
+    var lines = csv.lines().toList();
+    assertThat(lines).hasSize(3);
+    assertThat(lines.getFirst()).isEqualTo("id,first_name,last_name,email,game_date,game_day,time_ms");
+    assertThat(lines.subList(1, 3))
+        .allSatisfy(line -> assertThat(line).contains(this.event.getGames().getFirst().getGameDay().toString()));
+  }
+
+  @Test
+  void exportsNdjson() throws Exception {
+    var ndjson = given()
+        .queryParam("format", "ndjson")
+        .when().get("/events/{eventId}/games/export", this.event.getId())
+        .then()
+        .statusCode(Status.OK.getStatusCode())
+        .extract()
+        .asString();
+
+    var lines = ndjson.lines().toList();
+    assertThat(lines).hasSize(2);
+
+    var fastest = this.event.getGames().getLast();
+    var first = this.objectMapper.readTree(lines.getFirst());
+
+    assertThat(first.get("email").asText()).isEqualTo(fastest.getPlayer().getEmail());
+    assertThat(first.get("timeToCompleteMillis").asLong()).isEqualTo(10_000);
+  }
+
+  @Test
+  void unknownFormat() {
+    given()
+        .queryParam("format", "xml")
+        .when().get("/events/{eventId}/games/export", this.event.getId())
+        .then()
+        .statusCode(Status.BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void unknownEvent() {
+    given()
+        .when().get("/events/{eventId}/games/export", -1)
+        .then()
+        .statusCode(Status.NOT_FOUND.getStatusCode());
+  }
+
+  @Test
+  void archivedEventsCantBeExported() {
+    var pastEvent = EventTestHelper.createEvent().withEventDate(LocalDate.now().minusDays(1));
+    QuarkusTransaction.requiringNew().run(() -> this.eventRepository.persistAndFlush(pastEvent));
+    this.gameArchiveService.archiveEvent(pastEvent.getId());
+
+    given()
+        .when().get("/events/{eventId}/games/export", pastEvent.getId())
+        .then()
+        .statusCode(Status.CONFLICT.getStatusCode());
+  }
+}
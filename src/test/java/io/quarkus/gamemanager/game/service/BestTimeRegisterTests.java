@@ -0,0 +1,71 @@
+package io.quarkus.gamemanager.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.repository.GameRepository;
+
+class BestTimeRegisterTests {
+  private final BestTimeRegister register = new BestTimeRegister(new GameRepository() {
+    @Override
+    public Optional<Game> findFastestGameForEvent(Long eventId) {
+      return Optional.of(new Game().withId(0L).withTimeToComplete(Duration.ofSeconds(30)));
+    }
+  });
+
+  @Test
+  void onlyFasterTimesAreRecords() {
+    assertThat(this.register.getBestTime(1L)).hasValue(Duration.ofSeconds(30));
+    assertThat(this.register.offer(1L, 1L, Duration.ofSeconds(31))).isFalse();
+    assertThat(this.register.offer(1L, 2L, Duration.ofSeconds(30))).isFalse();
+    assertThat(this.register.offer(1L, 3L, Duration.ofSeconds(29))).isTrue();
+    assertThat(this.register.getBestTime(1L)).hasValue(Duration.ofSeconds(29));
+  }
+
+  @Test
+  void aGameLoadedAsTheBestTimeIsARecord() {
+    assertThat(this.register.offer(1L, 0L, Duration.ofSeconds(30))).isTrue();
+    assertThat(this.register.getBestTime(1L)).hasValue(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void simultaneousGamesAnnounceOneRecord() throws Exception {
+    var start = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var offers = LongStream.rangeClosed(1, 50)
+          .mapToObj(gameId -> executor.submit(() -> {
+            start.await();
+            return this.register.offer(1L, gameId, Duration.ofSeconds(10));
+          }))
+          .toList();
+
+      start.countDown();
+
+      var records = offers.stream()
+          .map(BestTimeRegisterTests::get)
+          .filter(Boolean::booleanValue)
+          .count();
+
+      assertThat(records).isOne();
+    }
+  }
+
+  private static boolean get(Future<Boolean> future) {
+    try {
+      return future.get();
+    }
+    catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.gamemanager.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameBuildCacheServiceTests {
+  @TempDir
+  Path checkoutDir;
+
+  @Test
+  void hashIgnoresCompiledOutput() throws IOException {
+    writeSources();
+    var hash = GameBuildCacheService.hashSources(this.checkoutDir);
+
+    Files.createDirectories(this.checkoutDir.resolve("target/classes"));
+    Files.writeString(this.checkoutDir.resolve("target/classes/Storyteller.class"), "compiled");
+
+    assertThat(GameBuildCacheService.hashSources(this.checkoutDir))
+        .isEqualTo(hash);
+  }
+
+  @Test
+  void hashChangesWithSources() throws IOException {
+    writeSources();
+    var hash = GameBuildCacheService.hashSources(this.checkoutDir);
+
+    Files.writeString(this.checkoutDir.resolve("src/main/java/Storyteller.java"), "class Storyteller { void tell() {} }");
+
+    assertThat(GameBuildCacheService.hashSources(this.checkoutDir))
+        .isNotEqualTo(hash);
+  }
+
+  private void writeSources() throws IOException {
+    Files.createDirectories(this.checkoutDir.resolve("src/main/java"));
+    Files.writeString(this.checkoutDir.resolve("pom.xml"), "<project/>");
+    Files.writeString(this.checkoutDir.resolve("src/main/java/Storyteller.java"), "class Storyteller {}");
+  }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.gamemanager.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.event.domain.EventRemoved;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class GameQueryCacheTests {
+  private static final AtomicInteger EVENT_IDS = new AtomicInteger(1_000_000);
+
+  @Inject
+  GameQueryCache gameQueryCache;
+
+  @Test
+  void identicalQueriesAreLoadedOnce() {
+    var eventId = nextEventId();
+    var loads = new AtomicInteger();
+
+    var first = this.gameQueryCache.get("games", eventId, Sort.by("timeToComplete"), Optional.empty(), 0, 10, loads::incrementAndGet);
+    var second = this.gameQueryCache.get("games", eventId, Sort.by("timeToComplete"), Optional.empty(), 0, 10, loads::incrementAndGet);
+
+    assertThat(first).isEqualTo(second).isEqualTo(1);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void differentQueriesAreLoadedSeparately() {
+    var eventId = nextEventId();
+    var loads = new AtomicInteger();
+
+    this.gameQueryCache.get("games", eventId, Sort.by("timeToComplete"), Optional.empty(), 0, 10, loads::incrementAndGet);
+    this.gameQueryCache.get("games", eventId, Sort.by("timeToComplete").descending(), Optional.empty(), 0, 10, loads::incrementAndGet);
+    this.gameQueryCache.get("games", eventId, Sort.by("timeToComplete"), Optional.of(LocalDate.now()), 0, 10, loads::incrementAndGet);
+    this.gameQueryCache.get("games", eventId, Sort.by("timeToComplete"), Optional.empty(), 10, 10, loads::incrementAndGet);
+    this.gameQueryCache.get("gameCount", eventId, loads::incrementAndGet);
+
+    assertThat(loads).hasValue(5);
+  }
+
+  @Test
+  void aChangeOnlyInvalidatesItsOwnEvent() {
+    var eventId = nextEventId();
+    var otherEventId = nextEventId();
+    var loads = new AtomicInteger();
+    var otherLoads = new AtomicInteger();
+
+    this.gameQueryCache.get("gameCount", eventId, loads::incrementAndGet);
+    this.gameQueryCache.get("gameCount", otherEventId, otherLoads::incrementAndGet);
+
+    this.gameQueryCache.invalidate(eventId);
+
+    assertThat(this.gameQueryCache.get("gameCount", eventId, loads::incrementAndGet)).isEqualTo(2);
+    assertThat(this.gameQueryCache.get("gameCount", otherEventId, otherLoads::incrementAndGet)).isEqualTo(1);
+  }
+
+  @Test
+  void removedEventsAreInvalidated() {
+    var eventId = nextEventId();
+    var version = this.gameQueryCache.version(eventId);
+
+    this.gameQueryCache.onEventRemoved(new EventRemoved(eventId));
+
+    assertThat(this.gameQueryCache.version(eventId)).isGreaterThan(version);
+  }
+
+  private static Long nextEventId() {
+    return (long) EVENT_IDS.incrementAndGet();
+  }
+}
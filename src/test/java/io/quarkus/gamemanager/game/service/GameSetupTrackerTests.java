@@ -0,0 +1,94 @@
+package io.quarkus.gamemanager.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.game.domain.PhaseTiming;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.domain.SetupPhase;
+import io.quarkus.test.junit.QuarkusTest;
+
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTest
+class GameSetupTrackerTests {
+  @Inject
+  GameSetupTracker gameSetupTracker;
+
+  @Test
+  void recordsPhases() {
+    var tracking = this.gameSetupTracker.start(new PlayerDto("Jane", "Doe", "jane@doe.com"));
+    tracking.setStation("station-1");
+
+    assertThat(tracking.time(SetupPhase.FETCH, Uni.createFrom().item("fetched")).await().atMost(Duration.ofSeconds(5)))
+        .isEqualTo("fetched");
+    assertThatThrownBy(() -> tracking.time(SetupPhase.RESET, Uni.createFrom().failure(new IllegalStateException("reset failed"))).await().atMost(Duration.ofSeconds(5)))
+        .isInstanceOf(IllegalStateException.class);
+
+    var timeline = tracking.finish(false);
+
+    assertThat(timeline.station()).isEqualTo("station-1");
+    assertThat(timeline.player()).isEqualTo("Jane Doe");
+    assertThat(timeline.successful()).isFalse();
+    assertThat(timeline.phases())
+        .extracting(PhaseTiming::phase, PhaseTiming::successful)
+        .containsExactly(
+            tuple(SetupPhase.FETCH, true),
+            tuple(SetupPhase.RESET, false)
+        );
+
+    assertThat(this.gameSetupTracker.getRecentSetups()).first().isEqualTo(timeline);
+    assertThat(this.gameSetupTracker.getPhaseStatistics())
+        .anySatisfy(statistics -> assertThat(statistics.phase()).isEqualTo(SetupPhase.FETCH));
+  }
+
+  @Test
+  void recordsAsyncPhases() {
+    var tracking = this.gameSetupTracker.start(new PlayerDto("John", "Doe", "john@doe.com"));
+    tracking.setStation("station-2");
+
+    assertThat(tracking.time(SetupPhase.CLONE, Uni.createFrom().item("cloned")).await().atMost(Duration.ofSeconds(5)))
+        .isEqualTo("cloned");
+
+    tracking.time(SetupPhase.HEALTH_WAIT, Uni.createFrom().nothing())
+        .subscribe().with(_ -> {})
+        .cancel();
+
+    assertThat(tracking.finish(false).phases())
+        .extracting(PhaseTiming::phase, PhaseTiming::successful)
+        .containsExactly(
+            tuple(SetupPhase.CLONE, true),
+            tuple(SetupPhase.HEALTH_WAIT, false)
+        );
+  }
+
+  @Test
+  void criticalPath() {
+    var reset = new PhaseTiming(SetupPhase.RESET, Duration.ofSeconds(1), Duration.ofSeconds(2), true);
+    var ideLaunch = new PhaseTiming(SetupPhase.IDE_LAUNCH, Duration.ofSeconds(1), Duration.ofSeconds(1), true);
+    var mcpWait = new PhaseTiming(SetupPhase.MCP_WAIT, Duration.ofSeconds(2), Duration.ofSeconds(5), true);
+    var buildCache = new PhaseTiming(SetupPhase.BUILD_CACHE, Duration.ofSeconds(3), Duration.ofSeconds(1), true);
+    var healthWait = new PhaseTiming(SetupPhase.HEALTH_WAIT, Duration.ofSeconds(7), Duration.ofSeconds(2), true);
+
+    assertThat(GameSetupTracker.criticalPath(List.of(reset, ideLaunch, mcpWait, buildCache, healthWait)))
+        .containsExactly(ideLaunch, mcpWait, healthWait);
+    assertThat(GameSetupTracker.criticalPath(List.of())).isEmpty();
+  }
+
+  @Test
+  void percentile() {
+    var durations = List.of(Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(3), Duration.ofSeconds(4));
+
+    assertThat(GameSetupTracker.percentile(durations, 0.5)).isEqualTo(Duration.ofSeconds(2));
+    assertThat(GameSetupTracker.percentile(durations, 0.95)).isEqualTo(Duration.ofSeconds(4));
+    assertThat(GameSetupTracker.percentile(List.of(), 0.5)).isZero();
+  }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.gamemanager.leaderboard.rest;
+
+import static io.restassured.RestAssured.get;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.event.domain.jpa.Event;
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.domain.jpa.Game;
+import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardScope;
+import io.quarkus.gamemanager.leaderboard.service.HallOfFameService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class LeaderboardResourceTests {
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  GameService gameService;
+
+  @Inject
+  HallOfFameService hallOfFameService;
+
+  @BeforeEach
+  void beforeEach() {
+    QuarkusTransaction.requiringNew().run(() -> this.eventRepository.deleteAllWithCascade());
+  }
+
+  @Test
+  void yearsAreUtcYears() {
+    var event = EventTestHelper.createEvent();
+    var lastOf2024 = event.getGames().getFirst().withTimeToComplete(Duration.ofMillis(1));
+    var firstOf2025 = event.getGames().getLast().withTimeToComplete(Duration.ofMillis(2));
+
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.eventRepository.persistAndFlush(event);
+      setGameDate(lastOf2024, Instant.parse("2024-12-31T23:30:00Z"));
+      setGameDate(firstOf2025, Instant.parse("2025-01-01T00:30:00Z"));
+    });
+
+    this.hallOfFameService.rebuild();
+
+    assertThat(this.hallOfFameService.getScopes()).contains(LeaderboardScope.ALL_TIME, LeaderboardScope.ofYear(2024), LeaderboardScope.ofYear(2025));
+    assertThat(getGameIds("/leaderboards", event)).containsExactly(lastOf2024.getId().intValue(), firstOf2025.getId().intValue());
+    assertThat(getGameIds("/leaderboards/2024", event)).containsExactly(lastOf2024.getId().intValue());
+    assertThat(getGameIds("/leaderboards/2025", event)).containsExactly(firstOf2025.getId().intValue());
+  }
+
+  @Test
+  void recordedAndRemovedGamesUpdateTheLeaderboards() {
+    var event = EventTestHelper.createEvent();
+    event.setGames(List.of());
+    QuarkusTransaction.requiringNew().run(() -> this.eventRepository.persistAndFlush(event));
+
+    var game = this.gameService.addGame(new GameDto(new PlayerDto("Jane", "Doe", "jane.doe@example.com"), event.getId(), Duration.ofMillis(1))).game();
+    var year = "/leaderboards/%d".formatted(LeaderboardScope.yearOf(Instant.now()).year());
+
+    assertThat(getGameIds("/leaderboards", event)).containsExactly(game.id().intValue());
+    assertThat(getGameIds(year, event)).containsExactly(game.id().intValue());
+
+    this.gameService.deleteGame(game);
+
+    assertThat(getGameIds("/leaderboards", event)).isEmpty();
+    assertThat(getGameIds(year, event)).isEmpty();
+  }
+
+  private void setGameDate(Game game, Instant gameDate) {
+    this.eventRepository.getEntityManager()
+        .createNativeQuery("UPDATE games SET game_date = :gameDate WHERE id = :id")
+        .setParameter("gameDate", gameDate)
+        .setParameter("id", game.getId())
+        .executeUpdate();
+  }
+
+  // Archives left behind by other tests can be on the leaderboards too, so only the event's own games are looked at
+  private static List<Integer> getGameIds(String path, Event event) {
+    return get(path).then()
+        .statusCode(Status.OK.getStatusCode())
+        .extract()
+        .jsonPath()
+        .getList("findAll { it.eventId == %d }.gameId".formatted(event.getId()), Integer.class);
+  }
+}
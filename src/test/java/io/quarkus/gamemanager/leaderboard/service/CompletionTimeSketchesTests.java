@@ -0,0 +1,56 @@
+package io.quarkus.gamemanager.leaderboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tdunning.math.stats.TDigest;
+
+class CompletionTimeSketchesTests {
+  @Test
+  void fasterThan() {
+    var digest = TDigest.createMergingDigest(CompletionTimeSketches.COMPRESSION);
+    IntStream.rangeClosed(1, 100_000).forEach(millis -> digest.add(millis));
+
+    var standing = CompletionTimeSketches.standing(digest, Duration.ofMillis(17_000));
+
+    assertThat(standing.games()).isEqualTo(100_000);
+    assertThat(standing.fasterThan()).isCloseTo(0.83, within(0.005));
+    assertThat(standing.getFasterThanPercent()).isBetween(82, 83);
+  }
+
+  @Test
+  void mergesAcrossDays() {
+    var day1 = TDigest.createMergingDigest(CompletionTimeSketches.COMPRESSION);
+    var day2 = TDigest.createMergingDigest(CompletionTimeSketches.COMPRESSION);
+    IntStream.rangeClosed(1, 1_000).forEach(millis -> day1.add(millis));
+    IntStream.rangeClosed(1_001, 2_000).forEach(millis -> day2.add(millis));
+
+    var merged = TDigest.createMergingDigest(CompletionTimeSketches.COMPRESSION);
+    merged.add(day1);
+    merged.add(day2);
+
+    assertThat(CompletionTimeSketches.standing(merged, Duration.ofMillis(1_000)).fasterThan()).isCloseTo(0.5, within(0.01));
+  }
+
+  @Test
+  void exactStanding() {
+    var standing = CompletionTimeSketches.standing(3, 1, Duration.ofSeconds(1));
+
+    assertThat(standing.games()).isEqualTo(3);
+    assertThat(standing.getFasterThanPercent()).isEqualTo(33);
+    assertThat(CompletionTimeSketches.standing(0, 0, Duration.ofSeconds(1)).getFasterThanPercent()).isEqualTo(100);
+  }
+
+  @Test
+  void noGamesYet() {
+    var standing = CompletionTimeSketches.standing(TDigest.createMergingDigest(CompletionTimeSketches.COMPRESSION), Duration.ofSeconds(1));
+
+    assertThat(standing.games()).isZero();
+    assertThat(standing.getFasterThanPercent()).isEqualTo(100);
+  }
+}
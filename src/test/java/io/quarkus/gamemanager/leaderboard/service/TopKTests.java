@@ -0,0 +1,63 @@
+package io.quarkus.gamemanager.leaderboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.leaderboard.domain.LeaderboardEntry;
+
+class TopKTests {
+  private static LeaderboardEntry entry(long gameId, long seconds) {
+    return new LeaderboardEntry(gameId, new PlayerDto("Jane", "Doe", "jane@doe.com"), 1L, "DevNexus 2026", Instant.now(), Duration.ofSeconds(seconds));
+  }
+
+  @Test
+  void keepsTheFastest() {
+    var topK = new TopK(2);
+
+    assertThat(topK.add(entry(1, 30))).isTrue();
+    assertThat(topK.add(entry(2, 20))).isTrue();
+    assertThat(topK.add(entry(3, 10))).isTrue();
+    assertThat(topK.add(entry(4, 40))).isFalse();
+    assertThat(topK.add(entry(3, 10))).isFalse();
+
+    assertThat(topK.getEntries())
+        .extracting(LeaderboardEntry::gameId)
+        .containsExactly(3L, 2L);
+  }
+
+  @Test
+  void reloadsOnlyWhenGamesWerePushedOut() {
+    var loads = new AtomicInteger();
+    var topK = new TopK(2);
+    topK.add(entry(1, 10));
+    topK.add(entry(2, 20));
+
+    // Nothing pushed out yet, so the leaderboard still holds every game
+    topK.removeIf(entry -> entry.gameId() == 1L);
+    topK.reloadIfIncomplete(() -> {
+      loads.incrementAndGet();
+      return List.of();
+    });
+    assertThat(loads).hasValue(0);
+
+    topK.add(entry(3, 30));
+    topK.add(entry(4, 5));
+    topK.removeIf(entry -> entry.gameId() == 4L);
+    topK.reloadIfIncomplete(() -> {
+      loads.incrementAndGet();
+      return List.of(entry(2, 20), entry(3, 30));
+    });
+
+    assertThat(loads).hasValue(1);
+    assertThat(topK.getEntries())
+        .extracting(LeaderboardEntry::gameId)
+        .containsExactly(2L, 3L);
+  }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.gamemanager.station.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.station.domain.StationState;
+import io.quarkus.test.junit.QuarkusTest;
+
+import net.datafaker.Faker;
+
+@QuarkusTest
+class StationServiceTests {
+  @Inject
+  StationService stationService;
+
+  @AfterEach
+  void afterEach() {
+    this.stationService.getStations().forEach(this.stationService::release);
+  }
+
+  @Test
+  void defaultStation() {
+    assertThat(this.stationService.getStations())
+        .singleElement()
+        .satisfies(station -> {
+          assertThat(station.getName()).isEqualTo("default");
+          assertThat(station.getAppHttpPort()).isEqualTo(8088);
+          assertThat(station.getState()).isEqualTo(StationState.IDLE);
+          assertThat(station.getPlayer()).isEmpty();
+        });
+  }
+
+  @Test
+  void allocateAndRelease() {
+    var fakeData = new Faker();
+    var player1 = new PlayerDto(fakeData.name().firstName(), fakeData.name().lastName(), fakeData.internet().emailAddress());
+    var player2 = new PlayerDto(fakeData.name().firstName(), fakeData.name().lastName(), fakeData.internet().emailAddress());
+
+    var station = this.stationService.allocate(player1);
+    assertThat(station).isPresent();
+    assertThat(station.get().getState()).isEqualTo(StationState.SETTING_UP);
+    assertThat(station.get().getPlayer()).hasValue(player1);
+
+    assertThat(this.stationService.allocate(player2)).isEmpty();
+
+    this.stationService.markInPlay(station.get());
+    assertThat(station.get().getState()).isEqualTo(StationState.IN_PLAY);
+
+    this.stationService.release(station.get());
+    assertThat(station.get().getState()).isEqualTo(StationState.IDLE);
+    assertThat(this.stationService.allocate(player2))
+        .get()
+        .extracting(s -> s.getPlayer().orElse(null))
+        .isEqualTo(player2);
+  }
+}
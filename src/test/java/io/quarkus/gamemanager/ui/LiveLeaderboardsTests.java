@@ -0,0 +1,102 @@
+package io.quarkus.gamemanager.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gamemanager.event.domain.jpa.Event;
+import io.quarkus.gamemanager.event.domain.jpa.EventTestHelper;
+import io.quarkus.gamemanager.event.repository.EventRepository;
+import io.quarkus.gamemanager.game.domain.GameDto;
+import io.quarkus.gamemanager.game.domain.PlayerDto;
+import io.quarkus.gamemanager.game.service.GameService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@QuarkusTest
+class LiveLeaderboardsTests {
+  @Inject
+  LiveLeaderboards liveLeaderboards;
+
+  @Inject
+  GameService gameService;
+
+  @Inject
+  EventRepository eventRepository;
+
+  @Inject
+  ObjectMapper objectMapper;
+
+  private Event event;
+
+  @BeforeEach
+  void beforeEach() {
+    this.event = EventTestHelper.createEvent();
+    this.event.getGames().getFirst().setTimeToComplete(Duration.ofSeconds(20));
+    this.event.getGames().getLast().setTimeToComplete(Duration.ofSeconds(10));
+
+    QuarkusTransaction.requiringNew().run(() -> {
+      this.eventRepository.deleteAllWithCascade();
+      this.eventRepository.persistAndFlush(this.event);
+    });
+  }
+
+  @Test
+  void sendsTheLeaderboardAndThenOnlyItsChanges() throws Exception {
+    var messages = new CopyOnWriteArrayList<String>();
+    var subscription = this.liveLeaderboards.subscribe(this.event.getId(), messages::add);
+
+    try {
+      var reset = parse(messages.getFirst());
+      assertThat(reset.get("type").asText()).isEqualTo("reset");
+      assertThat(reset.get("rows")).hasSize(2);
+      assertThat(reset.get("rows").get(0).get("id").asLong()).isEqualTo(this.event.getGames().getLast().getId());
+      assertThat(reset.get("rows").get(0).has("timeToComplete")).isFalse();
+
+      var savedGame = this.gameService.addGame(new GameDto(new PlayerDto("Big", "Screen", "big.screen@example.com"), this.event.getId(), Duration.ofSeconds(15))).game();
+
+      var added = parse(messages.get(1));
+      assertThat(added.get("type").asText()).isEqualTo("added");
+      assertThat(added.get("index").asInt()).isEqualTo(1);
+      assertThat(added.get("row").get("player").asText()).isEqualTo("Big Screen");
+
+      this.gameService.deleteGame(savedGame);
+
+      var removed = parse(messages.get(2));
+      assertThat(removed.get("type").asText()).isEqualTo("removed");
+      assertThat(removed.get("gameId").asLong()).isEqualTo(savedGame.id());
+      assertThat(messages).hasSize(3);
+    }
+    finally {
+      subscription.remove();
+    }
+  }
+
+  @Test
+  void displaysShareOneSnapshot() {
+    var first = new CopyOnWriteArrayList<String>();
+    var second = new CopyOnWriteArrayList<String>();
+    var subscriptions = List.of(
+        this.liveLeaderboards.subscribe(this.event.getId(), first::add),
+        this.liveLeaderboards.subscribe(this.event.getId(), second::add)
+    );
+
+    subscriptions.forEach(subscription -> subscription.remove());
+
+    assertThat(first).singleElement().isSameAs(second.getFirst());
+  }
+
+  private JsonNode parse(String message) throws Exception {
+    return this.objectMapper.readTree(message);
+  }
+}
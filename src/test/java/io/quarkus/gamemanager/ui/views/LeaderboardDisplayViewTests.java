@@ -0,0 +1,19 @@
+package io.quarkus.gamemanager.ui.views;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class LeaderboardDisplayViewTests {
+  @Test
+  void parseTop() {
+    assertThat(LeaderboardDisplayView.parseTop(Optional.of("10"))).isEqualTo(10);
+    assertThat(LeaderboardDisplayView.parseTop(Optional.of(" 5 "))).isEqualTo(5);
+    assertThat(LeaderboardDisplayView.parseTop(Optional.of("-3"))).isZero();
+    assertThat(LeaderboardDisplayView.parseTop(Optional.of("ten"))).isZero();
+    assertThat(LeaderboardDisplayView.parseTop(Optional.of(""))).isZero();
+    assertThat(LeaderboardDisplayView.parseTop(Optional.empty())).isZero();
+  }
+}